@@ -17,6 +17,7 @@ import gregtech.api.cover.ICoverable;
 import gregtech.api.cover.IFacadeCover;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.MetaTileEntityHolder;
+import gregtech.api.metatileentity.MetaTileEntityHolderTickable;
 import gregtech.api.render.MetaTileEntityRenderer;
 import gregtech.common.items.MetaItems;
 import gregtech.common.tools.DamageValues;
@@ -368,7 +369,8 @@ public class BlockMachine extends BlockCustomParticle implements ITileEntityProv
     @Nullable
     @Override
     public MetaTileEntityHolder createNewTileEntity(@Nullable World worldIn, int meta) {
-        return new MetaTileEntityHolder();
+        //machines start ticking, server side holder switches to non-ticking one if meta tile entity doesn't need it
+        return new MetaTileEntityHolderTickable();
     }
 
     @Override
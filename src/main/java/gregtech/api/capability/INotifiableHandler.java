@@ -0,0 +1,18 @@
+package gregtech.api.capability;
+
+import gregtech.api.util.IDirtyNotifiable;
+
+/**
+ * For item handlers and fluid tanks which can notify listeners when their contents change
+ * Used by recipe logic to only search for recipes when its inputs actually changed
+ */
+public interface INotifiableHandler {
+
+    /**
+     * Adds listener which will be notified after every change of handler contents
+     */
+    void addNotifiable(IDirtyNotifiable notifiable);
+
+    void removeNotifiable(IDirtyNotifiable notifiable);
+
+}
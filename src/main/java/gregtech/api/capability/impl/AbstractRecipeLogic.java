@@ -3,12 +3,14 @@ package gregtech.api.capability.impl;
 import gregtech.api.GTValues;
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.INotifiableHandler;
 import gregtech.api.capability.IWorkable;
 import gregtech.api.metatileentity.MTETrait;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.IDirtyNotifiable;
 import gregtech.api.util.RecipeLRUCache;
 import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
@@ -23,10 +25,7 @@ import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
 import java.util.function.LongSupplier;
 
 public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable {
@@ -64,6 +63,15 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable
     private int sleepTime = 1;
     private int failCount = 0;
 
+    private final IDirtyNotifiable inputChangeListener = this::onInputsChanged;
+    private final List<INotifiableHandler> notifiedHandlers = new ArrayList<>();
+    private IItemHandler subscribedItemInputs;
+    private IMultipleTankHandler subscribedFluidInputs;
+    private boolean inputsNotifiable;
+    protected boolean inputsChanged = true;
+    protected boolean awaitingInputChange;
+    private int idleTicks;
+
     public AbstractRecipeLogic(MetaTileEntity tileEntity, RecipeMap<?> recipeMap) {
         this(tileEntity, recipeMap, 16);
     }
@@ -133,7 +141,7 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable
                 if (progressTime > 0) {
                     updateRecipeProgress();
                 }
-                if (progressTime == 0 && sleepTimer == 0) {
+                if (progressTime == 0 && sleepTimer == 0 && !isAwaitingInputChange()) {
                     boolean result = trySearchNewRecipe();
                     if (!result) {
                         failCount++;
@@ -191,27 +199,140 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable
             //if previous recipe still matches inputs, try to use it
             currentRecipe = foundRecipe;
         } else {
-            boolean dirty = checkRecipeInputsDirty(importInventory, importFluids);
+            boolean dirty = checkInputsChanged(importInventory, importFluids);
             if (dirty || forceRecipeRecheck) {
                 this.forceRecipeRecheck = false;
-                //else, try searching new recipe for given inputs
-                currentRecipe = findRecipe(maxVoltage, importInventory, importFluids, this.useOptimizedRecipeLookUp);
+                //else, try recipes recently used by other machines of this recipe map
+                currentRecipe = findSharedCachedRecipe(maxVoltage, importInventory, importFluids);
+                if (currentRecipe == null) {
+                    //and search new recipe for given inputs if none of them matches
+                    currentRecipe = findRecipe(maxVoltage, importInventory, importFluids, this.useOptimizedRecipeLookUp);
+                    RecipeLRUCache sharedRecipeCache = recipeMap.getSharedRecipeCache();
+                    if (currentRecipe != null && sharedRecipeCache != null) {
+                        sharedRecipeCache.put(importInventory, importFluids, currentRecipe);
+                    }
+                }
                 if (currentRecipe != null) {
-                    this.previousRecipe.put(currentRecipe);
+                    this.previousRecipe.put(importInventory, importFluids, currentRecipe);
                     this.previousRecipe.cacheUnutilized();
+                    this.recipeMap.recordMachineCacheLookup(false);
                 }
             }
         }
         if (currentRecipe != null && setupAndConsumeRecipeInputs(currentRecipe)) {
             if (foundRecipe != null) {
                 this.previousRecipe.cacheUtilized();
+                this.recipeMap.recordMachineCacheLookup(true);
             }
             setupRecipe(currentRecipe);
             return true;
         }
+        if (currentRecipe == null && inputsNotifiable) {
+            //nothing can be crafted from current inputs, so sleep until they change
+            this.awaitingInputChange = true;
+            this.idleTicks = 0;
+            //refresh input snapshot so periodic polling while idle only reacts to new changes
+            checkRecipeInputsDirty(importInventory, importFluids);
+        }
         return false;
     }
 
+    /**
+     * @return true if machine has nothing to craft from its current inputs and none of them
+     * changed since last recipe search, so it can skip searching for a new recipe this tick
+     */
+    protected boolean isAwaitingInputChange() {
+        if (!awaitingInputChange) {
+            return false;
+        }
+        if (!inputsChanged && !forceRecipeRecheck && ++idleTicks >= ConfigHolder.idleRecipeRecheckInterval) {
+            //stacks can still be mutated in place without notifying their handler, so poll them once in a while
+            this.idleTicks = 0;
+            this.inputsChanged = checkRecipeInputsDirty(getInputInventory(), getInputTank());
+        }
+        if (inputsChanged || forceRecipeRecheck) {
+            this.awaitingInputChange = false;
+        }
+        return awaitingInputChange;
+    }
+
+    protected void onInputsChanged() {
+        this.inputsChanged = true;
+    }
+
+    /**
+     * Uses change notifications of input handlers when all of them support it,
+     * and falls back to comparing inputs with their last known state otherwise
+     */
+    protected boolean checkInputsChanged(IItemHandlerModifiable importInventory, IMultipleTankHandler importFluids) {
+        updateInputSubscriptions(importInventory, importFluids);
+        if (!inputsNotifiable) {
+            return checkRecipeInputsDirty(importInventory, importFluids);
+        }
+        boolean changed = this.inputsChanged;
+        this.inputsChanged = false;
+        return changed;
+    }
+
+    private void updateInputSubscriptions(IItemHandler importInventory, IMultipleTankHandler importFluids) {
+        if (importInventory == subscribedItemInputs && importFluids == subscribedFluidInputs) {
+            return;
+        }
+        unsubscribeFromInputs();
+        this.subscribedItemInputs = importInventory;
+        this.subscribedFluidInputs = importFluids;
+        this.inputsChanged = true;
+
+        List<INotifiableHandler> handlers = new ArrayList<>();
+        Collection<IItemHandler> itemHandlers = importInventory instanceof ItemHandlerList ?
+                ((ItemHandlerList) importInventory).getBackingHandlers() : Collections.singletonList(importInventory);
+        for (IItemHandler itemHandler : itemHandlers) {
+            if (!(itemHandler instanceof INotifiableHandler)) return;
+            handlers.add((INotifiableHandler) itemHandler);
+        }
+        for (IFluidTank fluidTank : importFluids.getFluidTanks()) {
+            if (!(fluidTank instanceof INotifiableHandler)) return;
+            handlers.add((INotifiableHandler) fluidTank);
+        }
+        if (!ConfigHolder.notificationDrivenRecipeSearch) {
+            return;
+        }
+        for (INotifiableHandler handler : handlers) {
+            handler.addNotifiable(inputChangeListener);
+            notifiedHandlers.add(handler);
+        }
+        this.inputsNotifiable = true;
+    }
+
+    /**
+     * Stops listening for changes of current input handlers, for example when multiblock structure is invalidated.
+     * Listeners will be registered again on next recipe search
+     */
+    public void unsubscribeFromInputs() {
+        for (INotifiableHandler handler : notifiedHandlers) {
+            handler.removeNotifiable(inputChangeListener);
+        }
+        notifiedHandlers.clear();
+        this.subscribedItemInputs = null;
+        this.subscribedFluidInputs = null;
+        this.inputsNotifiable = false;
+        this.awaitingInputChange = false;
+    }
+
+    protected Recipe findSharedCachedRecipe(long maxVoltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
+        RecipeLRUCache sharedRecipeCache = recipeMap.getSharedRecipeCache();
+        if (sharedRecipeCache == null) {
+            return null;
+        }
+        Recipe recipe = sharedRecipeCache.get(maxVoltage, inputs, fluidInputs);
+        if (recipe != null) {
+            sharedRecipeCache.cacheUtilized();
+        } else {
+            sharedRecipeCache.cacheUnutilized();
+        }
+        return recipe;
+    }
+
     public void forceRecipeRecheck() {
         this.forceRecipeRecheck = true;
     }
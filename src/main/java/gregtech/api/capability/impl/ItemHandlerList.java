@@ -7,6 +7,8 @@ import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +36,10 @@ public class ItemHandlerList implements IItemHandlerModifiable {
         }
     }
 
+    public Collection<IItemHandler> getBackingHandlers() {
+        return Collections.unmodifiableCollection(baseIndexOffset.keySet());
+    }
+
     @Override
     public int getSlots() {
         return handlerBySlotIndex.size();
@@ -2,11 +2,30 @@ package gregtech.api.capability.impl;
 
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController;
 import gregtech.api.recipes.Recipe;
+import gregtech.api.util.GTUtility;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.NonNullList;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class MultiblockRecipeLogic extends AbstractRecipeLogic {
+
+    private static final String PARALLEL_LIMIT = "ParallelLimit";
+    private static final String PARALLEL_RECIPES = "ParallelRecipes";
+
+    //max amount of recipe copies run in one operation, chosen by player, controller limit is used until then
+    private int parallelLimit = Integer.MAX_VALUE;
+    //amount of recipe copies consumed by last setupAndConsumeRecipeInputs call
+    private int parallelRecipes = 1;
+
     public MultiblockRecipeLogic(RecipeMapMultiblockController tileEntity) {
         this(tileEntity, 16);
     }
@@ -54,14 +73,136 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
         return controller.getOutputFluidInventory();
     }
 
+    /**
+     * @return max amount of recipe copies run in one operation, never above limit of the controller
+     */
+    public int getParallelLimit() {
+        RecipeMapMultiblockController controller = (RecipeMapMultiblockController) metaTileEntity;
+        return Math.min(parallelLimit, controller.getMaxParallelRecipes());
+    }
+
+    public void setParallelLimit(int parallelLimit) {
+        this.parallelLimit = Math.max(1, parallelLimit);
+        metaTileEntity.markDirty();
+    }
+
+    /**
+     * @return amount of recipe copies running in current operation, or 0 if there is none
+     */
+    public int getParallelRecipes() {
+        return isActive ? parallelRecipes : 0;
+    }
+
     @Override
     protected boolean setupAndConsumeRecipeInputs(Recipe recipe) {
         RecipeMapMultiblockController controller = (RecipeMapMultiblockController) metaTileEntity;
-        if (controller.checkRecipe(recipe, false) &&
-            super.setupAndConsumeRecipeInputs(recipe)) {
+        if (!controller.checkRecipe(recipe, false)) {
+            return false;
+        }
+        int parallelLimit = getParallelLimit();
+        int parallelRecipes = parallelLimit > 1 ? findParallelRecipes(recipe, parallelLimit) : 1;
+        boolean consumed;
+        if (parallelRecipes > 1) {
+            consumed = consumeParallelRecipeInputs(recipe, parallelRecipes);
+        } else {
+            consumed = super.setupAndConsumeRecipeInputs(recipe);
+        }
+        if (consumed) {
+            this.parallelRecipes = parallelRecipes;
             controller.checkRecipe(recipe, true);
-            return true;
-        } else return false;
+        }
+        return consumed;
+    }
+
+    /**
+     * @return max amount of copies of given recipe which can be run at once with current
+     * inputs, output space and voltage, but at least 1
+     */
+    protected int findParallelRecipes(Recipe recipe, int parallelLimit) {
+        if (recipe.getEUt() > 0) {
+            parallelLimit = (int) Math.min(parallelLimit, getMaxVoltage() / recipe.getEUt());
+        }
+        //count how many times inputs can be consumed from copy of them
+        List<ItemStack> inputs = GTUtility.copyStackList(GTUtility.itemHandlerToList(getInputInventory()));
+        List<FluidStack> fluidInputs = new ArrayList<>();
+        for (IFluidTank fluidTank : getInputTank().getFluidTanks()) {
+            FluidStack fluidStack = fluidTank.getFluid();
+            fluidInputs.add(fluidStack == null ? null : fluidStack.copy());
+        }
+        int parallel = 0;
+        while (parallel < parallelLimit && recipe.matches(true, inputs, fluidInputs)) {
+            parallel++;
+        }
+        if (parallel > 1 && !canFitParallelOutputs(recipe, parallel)) {
+            //single recipe checks output space by itself, search largest amount between it and overflowing one
+            int fittingParallel = 1;
+            int overflowingParallel = parallel;
+            while (overflowingParallel - fittingParallel > 1) {
+                int middleParallel = (fittingParallel + overflowingParallel) / 2;
+                if (canFitParallelOutputs(recipe, middleParallel)) {
+                    fittingParallel = middleParallel;
+                } else {
+                    overflowingParallel = middleParallel;
+                }
+            }
+            parallel = fittingParallel;
+        }
+        return Math.max(1, parallel);
+    }
+
+    private boolean canFitParallelOutputs(Recipe recipe, int parallel) {
+        IItemHandlerModifiable exportInventory = getOutputInventory();
+        List<ItemStack> itemOutputs = new ArrayList<>();
+        for (int i = 0; i < parallel; i++) {
+            itemOutputs.addAll(recipe.getAllItemOutputs(exportInventory.getSlots()));
+        }
+        return MetaTileEntity.addItemsToItemHandler(exportInventory, true, itemOutputs) &&
+            MetaTileEntity.addFluidsToFluidHandler(getOutputTank(), true, multiplyFluids(recipe.getFluidOutputs(), parallel));
+    }
+
+    private static List<FluidStack> multiplyFluids(List<FluidStack> fluidStacks, int multiplier) {
+        List<FluidStack> result = new ArrayList<>(fluidStacks.size());
+        for (FluidStack fluidStack : fluidStacks) {
+            FluidStack multipliedStack = fluidStack.copy();
+            multipliedStack.amount *= multiplier;
+            result.add(multipliedStack);
+        }
+        return result;
+    }
+
+    private boolean consumeParallelRecipeInputs(Recipe recipe, int parallel) {
+        int[] resultOverclock = calculateOverclock(recipe.getEUt() * parallel, recipe.getDuration());
+        int totalEUt = resultOverclock[0] * resultOverclock[1];
+        if (!(totalEUt >= 0 ? getEnergyStored() >= (totalEUt > getEnergyCapacity() / 2 ? resultOverclock[0] : totalEUt) :
+            (getEnergyStored() - resultOverclock[0] <= getEnergyCapacity()))) {
+            return false;
+        }
+        IItemHandlerModifiable importInventory = getInputInventory();
+        IMultipleTankHandler importFluids = getInputTank();
+        for (int i = 0; i < parallel; i++) {
+            recipe.matches(true, importInventory, importFluids);
+        }
+        return true;
+    }
+
+    @Override
+    protected void setupRecipe(Recipe recipe) {
+        super.setupRecipe(recipe);
+        if (parallelRecipes > 1) {
+            int[] resultOverclock = calculateOverclock(recipe.getEUt() * parallelRecipes, recipe.getDuration());
+            setMaxProgress(resultOverclock[1]);
+            this.recipeEUt = resultOverclock[0];
+            this.fluidOutputs = multiplyFluids(recipe.getFluidOutputs(), parallelRecipes);
+            //chanced outputs are rolled separately for every copy
+            //list set by super is fixed size, so outputs of all copies are collected into new one
+            int tier = getMachineTierForRecipe(recipe);
+            NonNullList<ItemStack> itemOutputs = NonNullList.create();
+            itemOutputs.addAll(this.itemOutputs);
+            for (int i = 1; i < parallelRecipes; i++) {
+                itemOutputs.addAll(GTUtility.copyStackList(recipe.getResultItemOutputs(getOutputInventory().getSlots(), random, tier)));
+            }
+            this.itemOutputs = itemOutputs;
+        }
     }
 
     @Override
@@ -87,4 +228,23 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
     protected long getMaxVoltage() {
         return Math.max(getEnergyContainer().getInputVoltage(), getEnergyContainer().getOutputVoltage());
     }
+
+    @Override
+    public NBTTagCompound serializeNBT() {
+        NBTTagCompound compound = super.serializeNBT();
+        compound.setInteger(PARALLEL_LIMIT, parallelLimit);
+        compound.setInteger(PARALLEL_RECIPES, parallelRecipes);
+        return compound;
+    }
+
+    @Override
+    public void deserializeNBT(NBTTagCompound compound) {
+        super.deserializeNBT(compound);
+        if (compound.hasKey(PARALLEL_LIMIT)) {
+            this.parallelLimit = Math.max(1, compound.getInteger(PARALLEL_LIMIT));
+        }
+        if (compound.hasKey(PARALLEL_RECIPES)) {
+            this.parallelRecipes = Math.max(1, compound.getInteger(PARALLEL_RECIPES));
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.capability.INotifiableHandler;
+import gregtech.api.util.IDirtyNotifiable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class NotifiableFluidTank extends FilteredFluidHandler implements INotifiableHandler {
+
+    private final List<IDirtyNotifiable> notifiables = new ArrayList<>(1);
+
+    public NotifiableFluidTank(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public void addNotifiable(IDirtyNotifiable notifiable) {
+        if (!notifiables.contains(notifiable)) {
+            notifiables.add(notifiable);
+        }
+    }
+
+    @Override
+    public void removeNotifiable(IDirtyNotifiable notifiable) {
+        notifiables.remove(notifiable);
+    }
+
+    @Override
+    protected void onContentsChanged() {
+        super.onContentsChanged();
+        for (int i = 0; i < notifiables.size(); i++) {
+            notifiables.get(i).markAsDirty();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.capability.INotifiableHandler;
+import gregtech.api.util.IDirtyNotifiable;
+import net.minecraftforge.items.ItemStackHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class NotifiableItemStackHandler extends ItemStackHandler implements INotifiableHandler {
+
+    private final List<IDirtyNotifiable> notifiables = new ArrayList<>(1);
+
+    public NotifiableItemStackHandler(int slots) {
+        super(slots);
+    }
+
+    @Override
+    public void addNotifiable(IDirtyNotifiable notifiable) {
+        if (!notifiables.contains(notifiable)) {
+            notifiables.add(notifiable);
+        }
+    }
+
+    @Override
+    public void removeNotifiable(IDirtyNotifiable notifiable) {
+        notifiables.remove(notifiable);
+    }
+
+    @Override
+    protected void onContentsChanged(int slot) {
+        super.onContentsChanged(slot);
+        for (int i = 0; i < notifiables.size(); i++) {
+            notifiables.get(i).markAsDirty();
+        }
+    }
+}
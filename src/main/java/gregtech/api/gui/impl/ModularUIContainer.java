@@ -7,6 +7,7 @@ import gregtech.api.gui.widgets.WidgetUIAccess;
 import gregtech.api.net.NetworkHandler;
 import gregtech.api.net.PacketUIClientAction;
 import gregtech.api.net.PacketUIWidgetUpdate;
+import gregtech.api.net.PacketUIWidgetUpdateFrame;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.PerTickIntCounter;
 import io.netty.buffer.Unpooled;
@@ -30,6 +31,10 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public boolean accumulateWidgetUpdateData = false;
     public List<PacketUIWidgetUpdate> accumulatedUpdates = new ArrayList<>();
 
+    //widget updates written while detecting changes are sent as single frame packet
+    private boolean collectUpdateFrame = false;
+    private PacketBuffer updateFrame;
+
     public ModularUIContainer(ModularUI modularUI) {
         this.modularUI = modularUI;
         modularUI.guiWidgets.values().forEach(widget -> widget.setUiAccess(this));
@@ -107,7 +112,7 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     @Override
     public void addListener(IContainerListener listener) {
         super.addListener(listener);
-        modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        detectAndSendWidgetChanges();
     }
 
     @Override
@@ -132,7 +137,21 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public void detectAndSendChanges() {
         super.detectAndSendChanges();
         if (listeners.size() > 0) {
+            detectAndSendWidgetChanges();
+        }
+    }
+
+    private void detectAndSendWidgetChanges() {
+        this.collectUpdateFrame = true;
+        try {
             modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        } finally {
+            this.collectUpdateFrame = false;
+        }
+        if (updateFrame != null) {
+            PacketUIWidgetUpdateFrame updateFramePacket = new PacketUIWidgetUpdateFrame(windowId, updateFrame);
+            NetworkHandler.channel.sendTo(NetworkHandler.packet2proxy(updateFramePacket), (EntityPlayerMP) modularUI.entityPlayer);
+            this.updateFrame = null;
         }
     }
 
@@ -241,6 +260,19 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     @Override
     public void writeUpdateInfo(Widget widget, int updateId, Consumer<PacketBuffer> payloadWriter) {
         int widgetId = modularUI.guiWidgets.inverse().get(widget);
+        if (collectUpdateFrame && !accumulateWidgetUpdateData && modularUI.entityPlayer instanceof EntityPlayerMP) {
+            if (updateFrame == null) {
+                this.updateFrame = new PacketBuffer(Unpooled.buffer());
+            }
+            updateFrame.writeVarInt(widgetId);
+            //length is written as medium, so it can be filled in after payload without moving data
+            int lengthIndex = updateFrame.writerIndex();
+            updateFrame.writeMedium(0);
+            updateFrame.writeVarInt(updateId);
+            payloadWriter.accept(updateFrame);
+            updateFrame.setMedium(lengthIndex, updateFrame.writerIndex() - lengthIndex - 3);
+            return;
+        }
         PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
         packetBuffer.writeVarInt(updateId);
         payloadWriter.accept(packetBuffer);
@@ -5,6 +5,7 @@ import gregtech.api.gui.IScissored;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.Widget;
 import gregtech.api.net.PacketUIWidgetUpdate;
+import gregtech.api.net.PacketUIWidgetUpdateFrame;
 import gregtech.api.util.RenderUtil;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.inventory.GuiContainer;
@@ -14,6 +15,7 @@ import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.client.event.GuiContainerEvent;
 import net.minecraftforge.common.MinecraftForge;
@@ -67,6 +69,20 @@ public class ModularUIGui extends GuiContainer implements IRenderContext {
         }
     }
 
+    public void handleWidgetUpdateFrame(PacketUIWidgetUpdateFrame packet) {
+        if (packet.windowId == inventorySlots.windowId) {
+            PacketBuffer frameData = packet.updateData;
+            while (frameData.isReadable()) {
+                Widget widget = modularUI.guiWidgets.get(frameData.readVarInt());
+                PacketBuffer updateData = new PacketBuffer(frameData.readSlice(frameData.readUnsignedMedium()));
+                int updateId = updateData.readVarInt();
+                if (widget != null) {
+                    widget.readUpdateInfo(updateId, updateData);
+                }
+            }
+        }
+    }
+
     @Override
     public void drawScreen(int mouseX, int mouseY, float partialTicks) {
         this.hoveredSlot = null;
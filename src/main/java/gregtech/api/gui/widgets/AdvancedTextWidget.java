@@ -4,6 +4,9 @@ import gregtech.api.gui.IRenderContext;
 import gregtech.api.gui.Widget;
 import gregtech.api.util.Position;
 import gregtech.api.util.Size;
+import gregtech.common.ConfigHolder;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.GuiScreen;
@@ -36,8 +39,11 @@ public class AdvancedTextWidget extends Widget {
 
     protected Consumer<List<ITextComponent>> textSupplier;
     protected BiConsumer<String, ClickData> clickHandler;
+    //lines as synchronized from server, client side displayText contains them split to maxWidthLimit
+    private List<ITextComponent> rawText = new ArrayList<>();
     private List<ITextComponent> displayText = new ArrayList<>();
     private int color;
+    private int textUpdateCountdown = 0;
 
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<ITextComponent>> text, int color) {
         super(new Position(xPosition, yPosition), Size.ZERO);
@@ -106,16 +112,40 @@ public class AdvancedTextWidget extends Widget {
 
     @Override
     public void detectAndSendChanges() {
+        if (textUpdateCountdown-- > 0) {
+            return;
+        }
+        this.textUpdateCountdown = ConfigHolder.guiTextUpdateInterval - 1;
         ArrayList<ITextComponent> textBuffer = new ArrayList<>();
         textSupplier.accept(textBuffer);
-        if (!displayText.equals(textBuffer)) {
-            this.displayText = textBuffer;
+        if (rawText.equals(textBuffer)) {
+            return;
+        }
+        IntList changedLines = new IntArrayList();
+        for (int i = 0; i < textBuffer.size(); i++) {
+            if (i >= rawText.size() || !rawText.get(i).equals(textBuffer.get(i))) {
+                changedLines.add(i);
+            }
+        }
+        this.rawText = textBuffer;
+        if (changedLines.size() == rawText.size()) {
             writeUpdateInfo(1, buffer -> {
-                buffer.writeVarInt(displayText.size());
-                for (ITextComponent textComponent : displayText) {
+                buffer.writeVarInt(rawText.size());
+                for (ITextComponent textComponent : rawText) {
                     buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
                 }
             });
+        } else {
+            //send only changed lines, client truncates or extends it's lines to new line count
+            writeUpdateInfo(2, buffer -> {
+                buffer.writeVarInt(rawText.size());
+                buffer.writeVarInt(changedLines.size());
+                for (int i = 0; i < changedLines.size(); i++) {
+                    int lineIndex = changedLines.getInt(i);
+                    buffer.writeVarInt(lineIndex);
+                    buffer.writeString(ITextComponent.Serializer.componentToJson(rawText.get(lineIndex)));
+                }
+            });
         }
     }
 
@@ -157,7 +187,7 @@ public class AdvancedTextWidget extends Widget {
     private void formatDisplayText() {
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
         int maxTextWidthResult = maxWidthLimit == 0 ? Integer.MAX_VALUE : maxWidthLimit;
-        this.displayText = displayText.stream()
+        this.displayText = rawText.stream()
             .flatMap(c -> GuiUtilRenderComponents.splitText(c, maxTextWidthResult, fontRenderer, true, true).stream())
             .collect(Collectors.toList());
     }
@@ -165,11 +195,27 @@ public class AdvancedTextWidget extends Widget {
     @Override
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if (id == 1) {
-            this.displayText.clear();
+            this.rawText.clear();
             int count = buffer.readVarInt();
             for (int i = 0; i < count; i++) {
                 String jsonText = buffer.readString(32767);
-                this.displayText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
+                this.rawText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
+            }
+            formatDisplayText();
+            updateComponentTextSize();
+        } else if (id == 2) {
+            int count = buffer.readVarInt();
+            while (rawText.size() > count) {
+                rawText.remove(rawText.size() - 1);
+            }
+            while (rawText.size() < count) {
+                rawText.add(new TextComponentString(""));
+            }
+            int changedCount = buffer.readVarInt();
+            for (int i = 0; i < changedCount; i++) {
+                int lineIndex = buffer.readVarInt();
+                String jsonText = buffer.readString(32767);
+                this.rawText.set(lineIndex, ITextComponent.Serializer.jsonToComponent(jsonText));
             }
             formatDisplayText();
             updateComponentTextSize();
@@ -180,6 +226,8 @@ public class AdvancedTextWidget extends Widget {
     public void handleClientAction(int id, PacketBuffer buffer) {
         super.handleClientAction(id, buffer);
         if (id == 1) {
+            //clicks usually change displayed text, so refresh it on next tick
+            this.textUpdateCountdown = 0;
             ClickData clickData = ClickData.readFromBuf(buffer);
             String componentData = buffer.readString(128);
             if (clickHandler != null) {
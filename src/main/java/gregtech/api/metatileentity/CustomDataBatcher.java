@@ -0,0 +1,136 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.GTValues;
+import gregtech.api.net.NetworkHandler;
+import gregtech.api.net.PacketCustomTileData;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects custom data written by {@link SyncedTileEntityBase} on server side and sends it
+ * at the end of world tick, as single {@link PacketCustomTileData} per chunk
+ * <p>
+ * Packet contains positions relative to the chunk and zigzag encoded varint discriminators,
+ * followed by raw update data, so it doesn't need NBT wrapping of vanilla tile entity update packets
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public class CustomDataBatcher {
+
+    private static final Map<World, Set<SyncedTileEntityBase>> dirtyTilesPerWorld = new HashMap<>();
+
+    static void queueUpdates(World world, SyncedTileEntityBase tileEntity) {
+        dirtyTilesPerWorld.computeIfAbsent(world, k -> new ReferenceLinkedOpenHashSet<>()).add(tileEntity);
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            dirtyTilesPerWorld.remove(event.getWorld());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+            Set<SyncedTileEntityBase> dirtyTiles = dirtyTilesPerWorld.get(event.world);
+            if (dirtyTiles != null && !dirtyTiles.isEmpty()) {
+                sendUpdates((WorldServer) event.world, dirtyTiles);
+                dirtyTiles.clear();
+            }
+        }
+    }
+
+    private static void sendUpdates(WorldServer world, Set<SyncedTileEntityBase> dirtyTiles) {
+        Long2ObjectMap<List<SyncedTileEntityBase>> tilesByChunk = new Long2ObjectOpenHashMap<>();
+        for (SyncedTileEntityBase tileEntity : dirtyTiles) {
+            if (tileEntity.isInvalid() || tileEntity.getWorld() != world || tileEntity.updates.isEmpty()) {
+                continue;
+            }
+            BlockPos pos = tileEntity.getPos();
+            tilesByChunk.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), k -> new ArrayList<>()).add(tileEntity);
+        }
+        PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
+        for (List<SyncedTileEntityBase> chunkTiles : tilesByChunk.values()) {
+            BlockPos chunkTilePos = chunkTiles.get(0).getPos();
+            int chunkX = chunkTilePos.getX() >> 4;
+            int chunkZ = chunkTilePos.getZ() >> 4;
+            PlayerChunkMapEntry chunkEntry = playerChunkMap.getEntry(chunkX, chunkZ);
+            if (chunkEntry == null || !chunkEntry.isSentToPlayers()) {
+                //players will receive current state together with chunk data
+                chunkTiles.forEach(tileEntity -> tileEntity.updates.clear());
+                continue;
+            }
+            //send block changes of this tick first, so tile entities placed this tick exist on client
+            //when their data arrives. tile entities on changed positions send their data with them
+            chunkEntry.update();
+            chunkTiles.removeIf(tileEntity -> tileEntity.updates.isEmpty());
+            if (chunkTiles.isEmpty()) {
+                continue;
+            }
+            PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+            buffer.writeVarInt(chunkTiles.size());
+            for (SyncedTileEntityBase tileEntity : chunkTiles) {
+                BlockPos pos = tileEntity.getPos();
+                buffer.writeByte((pos.getX() & 15) << 4 | (pos.getZ() & 15));
+                buffer.writeByte(pos.getY());
+                buffer.writeVarInt(tileEntity.updates.size());
+                for (Int2ObjectMap.Entry<byte[]> update : tileEntity.updates.int2ObjectEntrySet()) {
+                    int discriminator = update.getIntKey();
+                    buffer.writeVarInt((discriminator << 1) ^ (discriminator >> 31));
+                    buffer.writeByteArray(update.getValue());
+                }
+                tileEntity.updates.clear();
+            }
+            PacketCustomTileData packet = new PacketCustomTileData(chunkX, chunkZ, buffer);
+            NetworkHandler.channel.sendToAllTracking(packet.toFMLPacket(), NetworkHandler.blockPoint(world, chunkTilePos));
+        }
+    }
+
+    @SideOnly(Side.CLIENT)
+    public static void receiveUpdates(World world, PacketCustomTileData packet) {
+        Chunk chunk = world.getChunkProvider().getLoadedChunk(packet.chunkX, packet.chunkZ);
+        if (chunk == null) {
+            return;
+        }
+        PacketBuffer buffer = packet.updateData;
+        int tilesCount = buffer.readVarInt();
+        for (int i = 0; i < tilesCount; i++) {
+            int packedXZ = buffer.readUnsignedByte();
+            BlockPos pos = new BlockPos((packet.chunkX << 4) + (packedXZ >> 4), buffer.readUnsignedByte(), (packet.chunkZ << 4) + (packedXZ & 15));
+            TileEntity tileEntity = world.getTileEntity(pos);
+            int updatesCount = buffer.readVarInt();
+            for (int j = 0; j < updatesCount; j++) {
+                int encodedDiscriminator = buffer.readVarInt();
+                PacketBuffer updateData = new PacketBuffer(buffer.readSlice(buffer.readVarInt()));
+                if (tileEntity instanceof SyncedTileEntityBase) {
+                    int discriminator = (encodedDiscriminator >>> 1) ^ -(encodedDiscriminator & 1);
+                    ((SyncedTileEntityBase) tileEntity).receiveCustomData(discriminator, updateData);
+                }
+            }
+        }
+    }
+}
@@ -123,6 +123,48 @@ public abstract class MetaTileEntity implements ICoverable {
     public void markDirty() {
         if (holder != null) {
             holder.markDirty();
+            //non-ticking holders don't poll comparator and light values, so refresh them on every change
+            if (!holder.isTicking() && holder.hasWorld() && !getWorld().isRemote) {
+                updateComparatorValue();
+                updateLightValue();
+            }
+        }
+    }
+
+    /**
+     * Whether this meta tile entity itself has to be updated every tick.
+     * Traits and tickable covers are accounted separately by {@link #needsTicking()}
+     * <p>
+     * Meta tile entities returning false are kept in non-ticking holder and don't cost tick time,
+     * their comparator and light values are refreshed in {@link #markDirty()} instead.
+     * Call {@link #updateTickingState()} once returned value changes to true
+     */
+    public boolean isTickable() {
+        return true;
+    }
+
+    /**
+     * @return true if this meta tile entity, any of it's traits or any of it's covers need ticking
+     */
+    public boolean needsTicking() {
+        if (isTickable() || !mteTraits.isEmpty()) {
+            return true;
+        }
+        for (CoverBehavior coverBehavior : coverBehaviors) {
+            if (coverBehavior instanceof ITickable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves this meta tile entity to ticking holder if it needs ticking now.
+     * Ticking holders move it back on their own once ticking isn't needed anymore
+     */
+    public void updateTickingState() {
+        if (holder != null) {
+            holder.updateTickingState();
         }
     }
 
@@ -421,6 +463,7 @@ public abstract class MetaTileEntity implements ICoverable {
             getHolder().markDirty();
         }
         onCoverPlacementUpdate();
+        updateTickingState();
         return true;
     }
 
@@ -442,6 +485,7 @@ public abstract class MetaTileEntity implements ICoverable {
             getHolder().markDirty();
         }
         onCoverPlacementUpdate();
+        updateTickingState();
         return true;
     }
 
@@ -8,6 +8,10 @@ import gregtech.api.cover.CoverBehavior;
 import gregtech.api.gui.IUIHolder;
 import gregtech.api.util.GTControlledRegistry;
 import gregtech.api.util.GTLog;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.TaskPriority;
+import gregtech.api.util.TaskScheduler;
+import gregtech.common.ConfigHolder;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
@@ -25,15 +29,95 @@ import javax.annotation.Nullable;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIHolder {
+/**
+ * Holder of meta tile entity which is not added to world tick list
+ * <p>
+ * Server side holders are swapped between this class and {@link MetaTileEntityHolderTickable}
+ * depending on {@link MetaTileEntity#needsTicking()}, so passive machines like chests don't cost tick time.
+ * Client side always uses ticking holders
+ */
+public class MetaTileEntityHolder extends SyncedTileEntityBase implements IUIHolder {
 
     private MetaTileEntity metaTileEntity;
     private boolean needToUpdateLightning = false;
+    private long timer = 0L;
+
+    // Create an offset [0,20) to distribute ticks more evenly
+    private int offset = GTUtility.getRandomIntXSTR(20);
 
     public MetaTileEntity getMetaTileEntity() {
         return metaTileEntity;
     }
 
+    /**
+     * @deprecated This method distributes ticks unevenly.
+     * Use {@link MetaTileEntityHolder#getOffsetTimer()} instead.
+     */
+    @Deprecated
+    public long getTimer() {
+        return timer;
+    }
+
+    /**
+     * Replacement for old {@link MetaTileEntityHolder#getTimer()}.
+     * @return Timer value with a random offset of [0,20].
+     */
+    public long getOffsetTimer() {
+        return timer + offset;
+    }
+
+    /**
+     * @return true if this holder is updated every tick
+     */
+    public boolean isTicking() {
+        return false;
+    }
+
+    /**
+     * Replaces this holder with ticking one if it's meta tile entity needs ticking now.
+     * Ticking holders replace themselves back with non-ticking ones once ticking isn't needed anymore
+     */
+    public void updateTickingState() {
+        if (!isTicking() && metaTileEntity != null && hasWorld() && !isInvalid() && shouldTick()) {
+            replaceHolder(new MetaTileEntityHolderTickable());
+        }
+    }
+
+    protected boolean shouldTick() {
+        return needToUpdateLightning || metaTileEntity.needsTicking() || !ConfigHolder.nonTickingMachineHolders;
+    }
+
+    protected void replaceHolder(MetaTileEntityHolder newHolder) {
+        newHolder.transferDataFrom(this);
+        getWorld().setTileEntity(getPos(), newHolder);
+    }
+
+    private void transferDataFrom(MetaTileEntityHolder holder) {
+        this.metaTileEntity = holder.metaTileEntity;
+        this.metaTileEntity.holder = this;
+        this.needToUpdateLightning = holder.needToUpdateLightning;
+        this.timer = holder.timer;
+        this.offset = holder.offset;
+        transferUpdatesFrom(holder);
+    }
+
+    /**
+     * Performs single tick of this holder and it's meta tile entity.
+     * Called only by ticking holders
+     */
+    protected void tickMetaTileEntity() {
+        if (metaTileEntity != null) {
+            metaTileEntity.update();
+        }
+        if (this.needToUpdateLightning) {
+            getWorld().checkLight(getPos());
+            this.needToUpdateLightning = false;
+        }
+        //increment only after current tick, so meta tile entities will get first tick as timer == 0
+        //and update their settings which depend on getTimer() % N properly
+        this.timer++;
+    }
+
     /**
      * Sets this holder's current meta tile entity to copy of given one
      * Note that this method copies given meta tile entity and returns actual instance
@@ -54,6 +138,7 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
             this.needToUpdateLightning = true;
             world.neighborChanged(getPos(), getBlockType(), getPos());
             markDirty();
+            updateTickingState();
         }
         return metaTileEntity;
     }
@@ -150,20 +235,6 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         return metaTileEntityValue != null ? metaTileEntityValue : super.getCapability(capability, facing);
     }
 
-    @Override
-    public void update() {
-        if (metaTileEntity != null) {
-            metaTileEntity.update();
-        }
-        if (this.needToUpdateLightning) {
-            getWorld().checkLight(getPos());
-            this.needToUpdateLightning = false;
-        }
-        //increment only after current tick, so meta tile entities will get first tick as timer == 0
-        //and update their settings which depend on getTimer() % N properly
-        super.update();
-    }
-
     @Override
     public void writeInitialSyncData(PacketBuffer buf) {
         if (metaTileEntity != null) {
@@ -217,6 +288,13 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         super.onLoad();
         if (metaTileEntity != null) {
             metaTileEntity.onLoad();
+            //holder can't be replaced while chunk is loading, so wake it up on next tick
+            if (!isTicking() && !getWorld().isRemote && shouldTick()) {
+                TaskScheduler.scheduleTask(getWorld(), () -> {
+                    updateTickingState();
+                    return false;
+                }, TaskPriority.HIGH);
+            }
         }
     }
 
@@ -0,0 +1,25 @@
+package gregtech.api.metatileentity;
+
+import net.minecraft.util.ITickable;
+
+/**
+ * Holder of meta tile entity which is updated every tick
+ * <p>
+ * On server side it replaces itself with non-ticking {@link MetaTileEntityHolder}
+ * once it's meta tile entity doesn't need ticking anymore
+ */
+public class MetaTileEntityHolderTickable extends MetaTileEntityHolder implements ITickable {
+
+    @Override
+    public boolean isTicking() {
+        return true;
+    }
+
+    @Override
+    public void update() {
+        tickMetaTileEntity();
+        if (!getWorld().isRemote && getOffsetTimer() % 20 == 0 && getMetaTileEntity() != null && !shouldTick()) {
+            replaceHolder(new MetaTileEntityHolder());
+        }
+    }
+}
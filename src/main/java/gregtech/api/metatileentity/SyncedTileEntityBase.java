@@ -26,16 +26,44 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity {
 
     public abstract void receiveCustomData(int discriminator, PacketBuffer buf);
 
+    //custom data is serialized into shared buffer, so only resulting array is allocated
+    private static final ThreadLocal<PacketBuffer> customDataBuffer = ThreadLocal.withInitial(() -> new PacketBuffer(Unpooled.buffer()));
+
     protected final Int2ObjectMap<byte[]> updates = new Int2ObjectArrayMap<>(5);
 
     public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
-        ByteBuf backedBuffer = Unpooled.buffer();
-        dataWriter.accept(new PacketBuffer(backedBuffer));
-        byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
+        PacketBuffer buffer = customDataBuffer.get();
+        int startIndex = buffer.writerIndex();
+        byte[] updateData;
+        try {
+            dataWriter.accept(buffer);
+            updateData = new byte[buffer.writerIndex() - startIndex];
+            buffer.getBytes(startIndex, updateData);
+        } finally {
+            buffer.writerIndex(startIndex);
+        }
         updates.put(discriminator, updateData);
-        @SuppressWarnings("deprecation")
-        IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
-        world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
+        if (world.isRemote) {
+            @SuppressWarnings("deprecation")
+            IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
+            world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
+        } else {
+            CustomDataBatcher.queueUpdates(world, this);
+        }
+    }
+
+    /**
+     * Takes over custom data not sent yet by given tile entity,
+     * used when given tile entity is replaced with this one
+     */
+    protected void transferUpdatesFrom(SyncedTileEntityBase tileEntity) {
+        if (!tileEntity.updates.isEmpty()) {
+            this.updates.putAll(tileEntity.updates);
+            tileEntity.updates.clear();
+            if (tileEntity.world != null && !tileEntity.world.isRemote) {
+                CustomDataBatcher.queueUpdates(tileEntity.world, this);
+            }
+        }
     }
 
     @Override
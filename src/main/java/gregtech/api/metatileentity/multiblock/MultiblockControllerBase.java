@@ -8,6 +8,7 @@ import codechicken.lib.vec.Matrix4;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.MetaTileEntityHolder;
 import gregtech.api.multiblock.BlockPattern;
+import gregtech.api.multiblock.BlockStatePredicate;
 import gregtech.api.multiblock.BlockWorldState;
 import gregtech.api.multiblock.IPatternCenterPredicate;
 import gregtech.api.multiblock.PatternMatchContext;
@@ -43,11 +44,17 @@ import java.util.function.Predicate;
 
 public abstract class MultiblockControllerBase extends MetaTileEntity {
 
+    //watched structures are still checked this many times less often, in case some block change wasn't reported
+    private static final int WATCHED_STRUCTURE_CHECK_MULTIPLIER = 10;
+
     protected BlockPattern structurePattern;
 
     private final Map<MultiblockAbility<Object>, List<Object>> multiblockAbilities = new HashMap<>();
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
+    //set while structure index watches this controller for block changes instead of periodic checks
+    private boolean structureWatched;
+    private boolean structureCheckPending;
 
     public MultiblockControllerBase(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId);
@@ -64,9 +71,7 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     public void update() {
         super.update();
         if (!getWorld().isRemote) {
-
-                if (getOffsetTimer() % ConfigHolder.structureCheckOffSetTimer == 0 || getTimer() == 0) {
-
+            if (shouldCheckStructurePattern()) {
                 checkStructurePattern();
             }
             if (isStructureFormed()) {
@@ -75,6 +80,37 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
         }
     }
 
+    private boolean shouldCheckStructurePattern() {
+        if (getTimer() == 0) {
+            return true;
+        }
+        if (structureWatched && ConfigHolder.blockChangeDrivenStructureChecks) {
+            //block changes placed without notifying neighbours don't reach structure index
+            return structureCheckPending ||
+                getOffsetTimer() % (ConfigHolder.structureCheckOffSetTimer * WATCHED_STRUCTURE_CHECK_MULTIPLIER) == 0;
+        }
+        return getOffsetTimer() % ConfigHolder.structureCheckOffSetTimer == 0;
+    }
+
+    /**
+     * Called by {@link MultiblockStructureIndex} when block inside of formed structure changes
+     */
+    void markStructureForCheck() {
+        this.structureCheckPending = true;
+    }
+
+    private void updateStructureWatch() {
+        if (structureFormed && ConfigHolder.blockChangeDrivenStructureChecks) {
+            //whole possible footprint is watched, so extending repeated aisles is noticed too
+            EnumFacing facing = getFrontFacing().getOpposite();
+            this.structureWatched = MultiblockStructureIndex.watchStructure(this,
+                structurePattern.getMaxStructureMin(getPos(), facing), structurePattern.getMaxStructureMax(getPos(), facing));
+        } else if (structureWatched) {
+            MultiblockStructureIndex.unwatchStructure(this);
+            this.structureWatched = false;
+        }
+    }
+
     /**
      * Called when the multiblock is formed and validation predicate is matched
      */
@@ -141,11 +177,11 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     }
 
     public static Predicate<BlockWorldState> statePredicate(IBlockState... allowedStates) {
-        return blockWorldState -> ArrayUtils.contains(allowedStates, blockWorldState.getBlockState());
+        return BlockStatePredicate.ofStates(allowedStates);
     }
 
     public static Predicate<BlockWorldState> blockPredicate(Block... block) {
-        return blockWorldState -> ArrayUtils.contains(block, blockWorldState.getBlockState().getBlock());
+        return BlockStatePredicate.ofBlocks(block);
     }
 
     public static Predicate<BlockWorldState> isAirPredicate() {
@@ -188,6 +224,12 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     }
 
     protected void checkStructurePattern() {
+        this.structureCheckPending = false;
+        checkStructurePatternInternal();
+        updateStructureWatch();
+    }
+
+    private void checkStructurePatternInternal() {
         EnumFacing facing = getFrontFacing().getOpposite();
         PatternMatchContext context = structurePattern.checkPatternAt(getWorld(), getPos(), facing);
         if (context != null && !structureFormed) {
@@ -231,6 +273,7 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
         this.multiblockParts.clear();
         this.structureFormed = false;
         writeCustomData(400, buf -> buf.writeBoolean(false));
+        updateStructureWatch();
     }
 
     @Override
@@ -241,6 +284,24 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
         }
     }
 
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (!getWorld().isRemote && structureWatched) {
+            MultiblockStructureIndex.unwatchStructure(this);
+            this.structureWatched = false;
+        }
+    }
+
+    @Override
+    public void setFrontFacing(EnumFacing frontFacing) {
+        super.setFrontFacing(frontFacing);
+        //facing isn't part of block state, so rotating controller doesn't notify structure index
+        if (getWorld() != null && !getWorld().isRemote) {
+            this.structureCheckPending = true;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T> List<T> getAbilities(MultiblockAbility<T> ability) {
         List<T> rawList = (List<T>) multiblockAbilities.getOrDefault(ability, Collections.emptyList());
@@ -0,0 +1,213 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gregtech.api.GTValues;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index of formed multiblock structures of single server world
+ * <p>
+ * Every formed {@link MultiblockControllerBase} registers box containing every block its structure
+ * can occupy with repeatable aisles fully extended, keyed by chunk columns it overlaps. Index listens for block changes
+ * in the world and marks only controllers whose box contains changed block for structure check,
+ * so formed structures only need rare fallback check instead of scanning their pattern periodically
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+@ParametersAreNonnullByDefault
+public class MultiblockStructureIndex implements IWorldEventListener {
+
+    private static final Map<World, MultiblockStructureIndex> indexPerWorld = new HashMap<>();
+
+    private final TLongObjectMap<List<WatchedStructure>> structuresByChunk = new TLongObjectHashMap<>();
+    private final Map<MultiblockControllerBase, WatchedStructure> structures = new HashMap<>();
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event) {
+        World world = event.getWorld();
+        if (!world.isRemote) {
+            MultiblockStructureIndex structureIndex = new MultiblockStructureIndex();
+            indexPerWorld.put(world, structureIndex);
+            world.addEventListener(structureIndex);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            indexPerWorld.remove(event.getWorld());
+        }
+    }
+
+    /**
+     * Registers or moves box watched for given controller
+     * @return false if controller's world isn't indexed, so it has to be checked periodically
+     */
+    static boolean watchStructure(MultiblockControllerBase controller, BlockPos minPos, BlockPos maxPos) {
+        MultiblockStructureIndex structureIndex = indexPerWorld.get(controller.getWorld());
+        if (structureIndex == null) {
+            return false;
+        }
+        WatchedStructure structure = structureIndex.structures.get(controller);
+        if (structure != null && structure.hasBounds(minPos, maxPos)) {
+            return true;
+        }
+        if (structure != null) {
+            structureIndex.removeStructure(structure);
+        }
+        structureIndex.addStructure(new WatchedStructure(controller, minPos, maxPos));
+        return true;
+    }
+
+    static void unwatchStructure(MultiblockControllerBase controller) {
+        MultiblockStructureIndex structureIndex = indexPerWorld.get(controller.getWorld());
+        if (structureIndex != null) {
+            WatchedStructure structure = structureIndex.structures.get(controller);
+            if (structure != null) {
+                structureIndex.removeStructure(structure);
+            }
+        }
+    }
+
+    private void addStructure(WatchedStructure structure) {
+        structures.put(structure.controller, structure);
+        for (int chunkX = structure.minX >> 4; chunkX <= structure.maxX >> 4; chunkX++) {
+            for (int chunkZ = structure.minZ >> 4; chunkZ <= structure.maxZ >> 4; chunkZ++) {
+                long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                List<WatchedStructure> chunkStructures = structuresByChunk.get(chunkKey);
+                if (chunkStructures == null) {
+                    chunkStructures = new ArrayList<>();
+                    structuresByChunk.put(chunkKey, chunkStructures);
+                }
+                chunkStructures.add(structure);
+            }
+        }
+    }
+
+    private void removeStructure(WatchedStructure structure) {
+        structures.remove(structure.controller);
+        for (int chunkX = structure.minX >> 4; chunkX <= structure.maxX >> 4; chunkX++) {
+            for (int chunkZ = structure.minZ >> 4; chunkZ <= structure.maxZ >> 4; chunkZ++) {
+                long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                List<WatchedStructure> chunkStructures = structuresByChunk.get(chunkKey);
+                if (chunkStructures != null) {
+                    chunkStructures.remove(structure);
+                    if (chunkStructures.isEmpty()) {
+                        structuresByChunk.remove(chunkKey);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+        if (oldState == newState) {
+            return; //tile entities send their updates with unchanged state, they can't break structures
+        }
+        List<WatchedStructure> chunkStructures = structuresByChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (chunkStructures == null) {
+            return;
+        }
+        //iterate backwards, so removing stale structures doesn't skip entries
+        for (int i = chunkStructures.size() - 1; i >= 0; i--) {
+            WatchedStructure structure = chunkStructures.get(i);
+            if (!structure.controller.isValid()) {
+                //controller was removed without unregistering itself
+                removeStructure(structure);
+            } else if (structure.contains(pos)) {
+                structure.controller.markStructureForCheck();
+            }
+        }
+    }
+
+    @Override
+    public void notifyLightSet(BlockPos pos) {
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+    }
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) {
+    }
+
+    @Override
+    public void playRecord(SoundEvent soundIn, BlockPos pos) {
+    }
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+    }
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+    }
+
+    @Override
+    public void onEntityAdded(Entity entityIn) {
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entityIn) {
+    }
+
+    @Override
+    public void broadcastSound(int soundID, BlockPos pos, int data) {
+    }
+
+    @Override
+    public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {
+    }
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+    }
+
+    private static class WatchedStructure {
+
+        private final MultiblockControllerBase controller;
+        private final int minX, minY, minZ;
+        private final int maxX, maxY, maxZ;
+
+        private WatchedStructure(MultiblockControllerBase controller, BlockPos minPos, BlockPos maxPos) {
+            this.controller = controller;
+            this.minX = minPos.getX();
+            this.minY = minPos.getY();
+            this.minZ = minPos.getZ();
+            this.maxX = maxPos.getX();
+            this.maxY = maxPos.getY();
+            this.maxZ = maxPos.getZ();
+        }
+
+        private boolean hasBounds(BlockPos minPos, BlockPos maxPos) {
+            return minX == minPos.getX() && minY == minPos.getY() && minZ == minPos.getZ() &&
+                maxX == maxPos.getX() && maxY == maxPos.getY() && maxZ == maxPos.getZ();
+        }
+
+        private boolean contains(BlockPos pos) {
+            return pos.getX() >= minX && pos.getX() <= maxX &&
+                pos.getY() >= minY && pos.getY() <= maxY &&
+                pos.getZ() >= minZ && pos.getZ() <= maxZ;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.*;
@@ -72,6 +73,14 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
         return outputFluidInventory;
     }
 
+    /**
+     * @return max amount of recipe copies this multiblock can process in one operation,
+     * players can lower it per controller with screwdriver
+     */
+    public int getMaxParallelRecipes() {
+        return ConfigHolder.multiblockParallelRecipeLimit;
+    }
+
     /**
      * Performs extra checks for validity of given recipe before multiblock
      * will start it's processing.
@@ -90,6 +99,7 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
     public void invalidateStructure() {
         super.invalidateStructure();
         resetTileAbilities();
+        this.recipeMapWorkable.unsubscribeFromInputs();
     }
 
     @Override
@@ -145,6 +155,11 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
                 textList.add(new TextComponentTranslation("gregtech.multiblock.idling"));
             }
 
+            if (getMaxParallelRecipes() > 1) {
+                textList.add(new TextComponentTranslation("gregtech.multiblock.parallel_recipes",
+                    recipeMapWorkable.getParallelRecipes(), recipeMapWorkable.getParallelLimit()));
+            }
+
             if (recipeMapWorkable.isHasNotEnoughEnergy()) {
                 textList.add(new TextComponentTranslation("gregtech.multiblock.not_enough_energy").setStyle(new Style().setColor(TextFormatting.RED)));
             }
@@ -173,6 +188,23 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
         this.getFrontOverlay().render(renderState, translation, pipeline, getFrontFacing(), recipeMapWorkable.isActive());
     }
 
+    @Override
+    public boolean onScrewdriverClick(EntityPlayer playerIn, EnumHand hand, EnumFacing facing, CuboidRayTraceResult hitResult) {
+        int maxParallelRecipes = getMaxParallelRecipes();
+        if (maxParallelRecipes <= 1) {
+            return super.onScrewdriverClick(playerIn, hand, facing, hitResult);
+        }
+        if (!getWorld().isRemote) {
+            //cycle through powers of two up to max limit, then back to single recipe
+            int parallelLimit = recipeMapWorkable.getParallelLimit();
+            parallelLimit = parallelLimit >= maxParallelRecipes ? 1 : Math.min(parallelLimit * 2, maxParallelRecipes);
+            //reaching max limit makes controller follow config limit again
+            this.recipeMapWorkable.setParallelLimit(parallelLimit >= maxParallelRecipes ? Integer.MAX_VALUE : parallelLimit);
+            playerIn.sendMessage(new TextComponentTranslation("gregtech.multiblock.parallel_limit", parallelLimit));
+        }
+        return true;
+    }
+
     @Override
     public boolean onSawToolClick(EntityPlayer playerIn, EnumHand hand, CuboidRayTraceResult hitResult) {
         if (playerIn.isSneaking()) {
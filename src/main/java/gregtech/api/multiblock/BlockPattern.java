@@ -9,12 +9,15 @@ import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class BlockPattern {
 
+    static final Predicate<BlockWorldState> ANY_BLOCK = blockWorldState -> true;
+
     private final Predicate<BlockWorldState>[][][] blockMatches; //[z][y][x]
     private final TIntObjectMap<Predicate<PatternMatchContext>> layerMatchers = new TIntObjectHashMap<>();
     private final Predicate<PatternMatchContext>[] validators;
@@ -27,11 +30,19 @@ public class BlockPattern {
 
     // x, y, z, minZ, maxZ
     private int[] centerOffset = null;
+    //cells of every aisle in order they are checked, as y * palmLength + x
+    private final int[][] cellOrder;
+    //offsets of aisle cells relative to center followed by offset between aisles, computed once per facing
+    private final int[][] facingOffsets = new int[EnumFacing.VALUES.length][];
+    private final int[] countMatchesCache;
+    private final int[] sliceCountMatches;
 
     private final BlockWorldState worldState = new BlockWorldState();
     private final MutableBlockPos blockPos = new MutableBlockPos();
     private final PatternMatchContext matchContext = new PatternMatchContext();
     private final PatternMatchContext layerContext = new PatternMatchContext();
+    //max repeated aisles taken into account by structure bounds, so huge repeat limits don't make bounds span the world
+    private static final int MAX_BOUNDS_AISLES = 256;
 
     public BlockPattern(Predicate<BlockWorldState>[][][] predicatesIn,
                         List<Pair<Predicate<BlockWorldState>, IntRange>> countMatches,
@@ -61,6 +72,9 @@ public class BlockPattern {
         this.aisleRepetitions = aisleRepetitions;
 
         initializeCenterOffsets();
+        this.cellOrder = computeCellOrder();
+        this.countMatchesCache = new int[this.countMatches.length];
+        this.sliceCountMatches = new int[this.countMatches.length];
     }
 
     private void initializeCenterOffsets() {
@@ -81,6 +95,50 @@ public class BlockPattern {
         }
     }
 
+    private int[][] computeCellOrder() {
+        int[][] cellOrder = new int[this.fingerLength][];
+        for (int z = 0; z < this.fingerLength; z++) {
+            int[] order = new int[this.thumbLength * this.palmLength];
+            int index = 0;
+            for (int priority = 0; priority < 3; priority++) {
+                for (int y = 0; y < this.thumbLength; y++) {
+                    for (int x = 0; x < this.palmLength; x++) {
+                        if (getCellPriority(this.blockMatches[z][y][x]) == priority) {
+                            order[index++] = y * this.palmLength + x;
+                        }
+                    }
+                }
+            }
+            cellOrder[z] = order;
+        }
+        return cellOrder;
+    }
+
+    private static int getCellPriority(Predicate<BlockWorldState> predicate) {
+        //block state cells are cheap and have no side effects, so they are checked first to fail early
+        if (predicate instanceof BlockStatePredicate) {
+            return 0;
+        }
+        //cells matching any block never fail, so they are checked last
+        return predicate == ANY_BLOCK ? 2 : 1;
+    }
+
+    private int[] getFacingOffsets(EnumFacing facing) {
+        int[] offsets = this.facingOffsets[facing.getIndex()];
+        if (offsets == null) {
+            int cellCount = this.thumbLength * this.palmLength;
+            offsets = new int[(cellCount + 1) * 3];
+            for (int b = 0, y = -centerOffset[1]; b < this.thumbLength; b++, y++) {
+                for (int a = 0, x = -centerOffset[0]; a < this.palmLength; a++, x++) {
+                    setActualRelativeOffset(offsets, (b * this.palmLength + a) * 3, x, y, 0, facing);
+                }
+            }
+            setActualRelativeOffset(offsets, cellCount * 3, 0, 0, 1, facing);
+            this.facingOffsets[facing.getIndex()] = offsets;
+        }
+        return offsets;
+    }
+
     public int getFingerLength() {
         return this.fingerLength;
     }
@@ -93,48 +151,81 @@ public class BlockPattern {
         return this.palmLength;
     }
 
+    /**
+     * @return minimal corner of the box containing every block structure with given center and facing can occupy,
+     * with every repeatable aisle repeated max amount of times
+     */
+    public BlockPos getMaxStructureMin(BlockPos centerPos, EnumFacing facing) {
+        int[] bounds = computeMaxStructureBounds(centerPos, facing);
+        return new BlockPos(bounds[0], bounds[1], bounds[2]);
+    }
+
+    /**
+     * @return maximal corner of the box containing every block structure with given center and facing can occupy,
+     * with every repeatable aisle repeated max amount of times
+     */
+    public BlockPos getMaxStructureMax(BlockPos centerPos, EnumFacing facing) {
+        int[] bounds = computeMaxStructureBounds(centerPos, facing);
+        return new BlockPos(bounds[3], bounds[4], bounds[5]);
+    }
+
+    private int[] computeMaxStructureBounds(BlockPos centerPos, EnumFacing facing) {
+        int[] offsets = getFacingOffsets(facing);
+        int aisleOffset = offsets.length - 3;
+        long totalAisles = 0L;
+        for (int[] repetitions : aisleRepetitions) {
+            totalAisles += repetitions[1];
+        }
+        //first aisle is searched from -centerOffset[4] to -centerOffset[3], so structure can't reach beyond these slices
+        int minZ = -Math.min(centerOffset[4], MAX_BOUNDS_AISLES);
+        int maxZ = -centerOffset[3] + (int) Math.min(totalAisles, MAX_BOUNDS_AISLES) - 1;
+        int[] bounds = {centerPos.getX(), centerPos.getY(), centerPos.getZ(), centerPos.getX(), centerPos.getY(), centerPos.getZ()};
+        //offsets are linear in z, so corners of the box are reached at first or last slice
+        for (int index = 0; index < aisleOffset; index += 3) {
+            for (int z : new int[]{minZ, maxZ}) {
+                int x = centerPos.getX() + offsets[index] + offsets[aisleOffset] * z;
+                int y = centerPos.getY() + offsets[index + 1] + offsets[aisleOffset + 1] * z;
+                int blockZ = centerPos.getZ() + offsets[index + 2] + offsets[aisleOffset + 2] * z;
+                bounds[0] = Math.min(bounds[0], x);
+                bounds[1] = Math.min(bounds[1], y);
+                bounds[2] = Math.min(bounds[2], blockZ);
+                bounds[3] = Math.max(bounds[3], x);
+                bounds[4] = Math.max(bounds[4], y);
+                bounds[5] = Math.max(bounds[5], blockZ);
+            }
+        }
+        return bounds;
+    }
+
     public PatternMatchContext checkPatternAt(World world, BlockPos centerPos, EnumFacing facing) {
-        int[] countMatchesCache = new int[countMatches.length];
+        int[] offsets = getFacingOffsets(facing);
         boolean findFirstAisle = false;
         int minZ = -centerOffset[4];
 
         this.matchContext.reset();
         this.layerContext.reset();
+        Arrays.fill(countMatchesCache, 0);
 
         //Checking aisles
         for (int c = 0, z = minZ++, r; c < this.fingerLength; c++) {
             //Checking repeatable slices
-            loop:
             for (r = 0; (findFirstAisle ? r < aisleRepetitions[c][1] : z <= -centerOffset[3]); r++) {
                 //Checking single slice
                 this.layerContext.reset();
 
-                for (int b = 0, y = -centerOffset[1]; b < this.thumbLength; b++, y++) {
-                    for (int a = 0, x = -centerOffset[0]; a < this.palmLength; a++, x++) {
-                        Predicate<BlockWorldState> predicate = this.blockMatches[c][b][a];
-                        setActualRelativeOffset(blockPos, x, y, z, facing);
-                        blockPos.setPos(blockPos.getX() + centerPos.getX(), blockPos.getY() + centerPos.getY(), blockPos.getZ() + centerPos.getZ());
-                        worldState.update(world, blockPos, matchContext, layerContext);
-
-                        if (!predicate.test(worldState)) {
-                            if (findFirstAisle) {
-                                if (r < aisleRepetitions[c][0]) {//retreat to see if the first aisle can start later
-                                    r = c = 0;
-                                    z = minZ++;
-                                    matchContext.reset();
-                                    findFirstAisle = false;
-                                }
-                            } else {
-                                z++;//continue searching for the first aisle
-                            }
-                            continue loop;
-                        }
-                        for (int i = 0; i < countMatchesCache.length; i++) {
-                            if (countMatches[i].getLeft().test(worldState)) {
-                                countMatchesCache[i]++;
-                            }
+                if (!checkSlice(world, centerPos, offsets, c, z)) {
+                    if (findFirstAisle) {
+                        if (r < aisleRepetitions[c][0]) {//retreat to see if the first aisle can start later
+                            r = c = 0;
+                            z = minZ++;
+                            matchContext.reset();
+                            Arrays.fill(countMatchesCache, 0);
+                            findFirstAisle = false;
                         }
+                    } else {
+                        z++;//continue searching for the first aisle
                     }
+                    continue;
                 }
                 findFirstAisle = true;
                 z++;
@@ -169,33 +260,63 @@ public class BlockPattern {
         return matchContext;
     }
 
-    private MutableBlockPos setActualRelativeOffset(MutableBlockPos pos, int x, int y, int z, EnumFacing facing) {
+    private boolean checkSlice(World world, BlockPos centerPos, int[] offsets, int c, int z) {
+        int aisleOffset = offsets.length - 3;
+        int aisleX = centerPos.getX() + offsets[aisleOffset] * z;
+        int aisleY = centerPos.getY() + offsets[aisleOffset + 1] * z;
+        int aisleZ = centerPos.getZ() + offsets[aisleOffset + 2] * z;
+        Predicate<BlockWorldState>[][] slicePredicates = this.blockMatches[c];
+        Arrays.fill(sliceCountMatches, 0);
+
+        for (int cell : this.cellOrder[c]) {
+            int index = cell * 3;
+            blockPos.setPos(aisleX + offsets[index], aisleY + offsets[index + 1], aisleZ + offsets[index + 2]);
+            worldState.update(world, blockPos, matchContext, layerContext);
+
+            Predicate<BlockWorldState> predicate = slicePredicates[cell / this.palmLength][cell % this.palmLength];
+            if (!predicate.test(worldState)) {
+                return false;
+            }
+            for (int i = 0; i < sliceCountMatches.length; i++) {
+                Predicate<BlockWorldState> countPredicate = countMatches[i].getLeft();
+                if (countPredicate == predicate || countPredicate.test(worldState)) {
+                    sliceCountMatches[i]++;
+                }
+            }
+        }
+        //blocks are only counted when whole slice matched
+        for (int i = 0; i < sliceCountMatches.length; i++) {
+            countMatchesCache[i] += sliceCountMatches[i];
+        }
+        return true;
+    }
+
+    private void setActualRelativeOffset(int[] offsets, int index, int x, int y, int z, EnumFacing facing) {
         //if (!ArrayUtils.contains(ALLOWED_FACINGS, facing))
         //    throw new IllegalArgumentException("Can rotate only horizontally");
-        int[] c0 = new int[]{x, y, z}, c1 = new int[3];
+        int[] c0 = new int[]{x, y, z};
         for (int i = 0; i < 3; i++) {
             switch (structureDir[i].getActualFacing(facing)) {
                 case UP:
-                    c1[1] = c0[i];
+                    offsets[index + 1] = c0[i];
                     break;
                 case DOWN:
-                    c1[1] = -c0[i];
+                    offsets[index + 1] = -c0[i];
                     break;
                 case WEST:
-                    c1[0] = -c0[i];
+                    offsets[index] = -c0[i];
                     break;
                 case EAST:
-                    c1[0] = c0[i];
+                    offsets[index] = c0[i];
                     break;
                 case NORTH:
-                    c1[2] = -c0[i];
+                    offsets[index + 2] = -c0[i];
                     break;
                 case SOUTH:
-                    c1[2] = c0[i];
+                    offsets[index + 2] = c0[i];
                     break;
             }
         }
-        return pos.setPos(c1[0], c1[1], c1[2]);
     }
 
     /**
@@ -0,0 +1,44 @@
+package gregtech.api.multiblock;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Predicate matching only block state at checked position
+ * <p>
+ * It doesn't touch tile entity or match contexts, so {@link BlockPattern} can check
+ * cells using it before any other cells of the aisle. States and blocks are looked up
+ * by identity, since they are singletons
+ */
+public class BlockStatePredicate implements Predicate<BlockWorldState> {
+
+    private final Set<IBlockState> allowedStates;
+    private final Set<Block> allowedBlocks;
+
+    private BlockStatePredicate(Set<IBlockState> allowedStates, Set<Block> allowedBlocks) {
+        this.allowedStates = allowedStates;
+        this.allowedBlocks = allowedBlocks;
+    }
+
+    public static BlockStatePredicate ofStates(IBlockState... allowedStates) {
+        return new BlockStatePredicate(new ReferenceOpenHashSet<>(Arrays.asList(allowedStates)), new ReferenceOpenHashSet<>());
+    }
+
+    public static BlockStatePredicate ofBlocks(Block... allowedBlocks) {
+        return new BlockStatePredicate(new ReferenceOpenHashSet<>(), new ReferenceOpenHashSet<>(Arrays.asList(allowedBlocks)));
+    }
+
+    public boolean test(IBlockState blockState) {
+        return allowedStates.contains(blockState) || allowedBlocks.contains(blockState.getBlock());
+    }
+
+    @Override
+    public boolean test(BlockWorldState blockWorldState) {
+        return test(blockWorldState.getBlockState());
+    }
+}
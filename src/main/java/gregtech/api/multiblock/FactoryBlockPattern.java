@@ -54,7 +54,7 @@ public class FactoryBlockPattern {
             }
         }
         if (flags != 0x7) throw new IllegalArgumentException("Must have 3 different axes!");
-        this.symbolMap.put(' ', k -> true);
+        this.symbolMap.put(' ', BlockPattern.ANY_BLOCK);
     }
 
     /**
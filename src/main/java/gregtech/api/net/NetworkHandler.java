@@ -7,6 +7,7 @@ import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.UIFactory;
 import gregtech.api.gui.impl.ModularUIContainer;
 import gregtech.api.gui.impl.ModularUIGui;
+import gregtech.api.metatileentity.CustomDataBatcher;
 import gregtech.api.util.ClipboardUtil;
 import gregtech.api.util.GTLog;
 import io.netty.buffer.ByteBuf;
@@ -195,6 +196,39 @@ public class NetworkHandler {
             (buf) -> new PacketClipboard(buf.readString(32767))
         ));
 
+        registerPacket(6, PacketCustomTileData.class, new PacketCodec<>(
+            (packet, buf) -> {
+                buf.writeInt(packet.chunkX);
+                buf.writeInt(packet.chunkZ);
+                buf.writeVarInt(packet.updateData.readableBytes());
+                buf.writeBytes(packet.updateData);
+            },
+            (buf) -> {
+                int chunkX = buf.readInt();
+                int chunkZ = buf.readInt();
+                ByteBuf directSliceBuffer = buf.readBytes(buf.readVarInt());
+                ByteBuf copiedDataBuffer = Unpooled.copiedBuffer(directSliceBuffer);
+                directSliceBuffer.release();
+                return new PacketCustomTileData(chunkX, chunkZ, new PacketBuffer(copiedDataBuffer));
+            }
+        ));
+
+        registerPacket(7, PacketUIWidgetUpdateFrame.class, new PacketCodec<>(
+            (packet, buf) -> {
+                buf.writeVarInt(packet.updateData.readableBytes());
+                buf.writeBytes(packet.updateData);
+                buf.writeVarInt(packet.windowId);
+            },
+            (buf) -> {
+                ByteBuf directSliceBuffer = buf.readBytes(buf.readVarInt());
+                ByteBuf copiedDataBuffer = Unpooled.copiedBuffer(directSliceBuffer);
+                directSliceBuffer.release();
+                return new PacketUIWidgetUpdateFrame(
+                    buf.readVarInt(),
+                    new PacketBuffer(copiedDataBuffer));
+            }
+        ));
+
         registerServerExecutor(PacketUIClientAction.class, (packet, handler) -> {
             Container openContainer = handler.player.openContainer;
             if (openContainer instanceof ModularUIContainer &&
@@ -227,6 +261,12 @@ public class NetworkHandler {
                 ((ModularUIGui) currentScreen).handleWidgetUpdate(packet);
             }
         });
+        registerClientExecutor(PacketUIWidgetUpdateFrame.class, (packet, handler) -> {
+            GuiScreen currentScreen = Minecraft.getMinecraft().currentScreen;
+            if(currentScreen instanceof ModularUIGui) {
+                ((ModularUIGui) currentScreen).handleWidgetUpdateFrame(packet);
+            }
+        });
 
         registerClientExecutor(PacketBlockParticle.class, (packet, handler) -> {
             World world = Minecraft.getMinecraft().world;
@@ -238,6 +278,10 @@ public class NetworkHandler {
         registerClientExecutor(PacketClipboard.class, (packet, handler) -> {
             ClipboardUtil.copyToClipboard(packet.text);
         });
+
+        registerClientExecutor(PacketCustomTileData.class, (packet, handler) -> {
+            CustomDataBatcher.receiveUpdates(Minecraft.getMinecraft().world, packet);
+        });
     }
 
     public static <T extends Packet> void registerPacket(int packetId, Class<T> packetClass, PacketCodec<T> codec) {
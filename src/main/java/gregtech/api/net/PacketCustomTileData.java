@@ -0,0 +1,17 @@
+package gregtech.api.net;
+
+import net.minecraft.network.PacketBuffer;
+
+public class PacketCustomTileData implements NetworkHandler.Packet {
+
+    public final int chunkX;
+    public final int chunkZ;
+    public final PacketBuffer updateData;
+
+    public PacketCustomTileData(int chunkX, int chunkZ, PacketBuffer updateData) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.updateData = updateData;
+    }
+
+}
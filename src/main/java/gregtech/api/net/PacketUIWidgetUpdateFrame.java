@@ -0,0 +1,19 @@
+package gregtech.api.net;
+
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * Contains all widget updates written by single container during one tick,
+ * each one as widget id followed by length prefixed update data
+ */
+public class PacketUIWidgetUpdateFrame implements NetworkHandler.Packet {
+
+    public final int windowId;
+    public final PacketBuffer updateData;
+
+    public PacketUIWidgetUpdateFrame(int windowId, PacketBuffer updateData) {
+        this.windowId = windowId;
+        this.updateData = updateData;
+    }
+
+}
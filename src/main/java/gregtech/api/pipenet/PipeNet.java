@@ -4,8 +4,10 @@ import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.TObjectIntMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
+import io.netty.buffer.Unpooled;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
@@ -15,7 +17,6 @@ import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.INBTSerializable;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCompound> {
 
@@ -89,6 +90,9 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected void checkAddedInChunk(BlockPos nodePos) {
+        if (isValid()) {
+            this.worldData.addNodeToIndex(nodePos, this);
+        }
         ChunkPos chunkPos = new ChunkPos(nodePos);
         int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> (old == null ? 0 : old) + 1);
         if (newValue == 1 && isValid()) {
@@ -97,6 +101,9 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected void ensureRemovedFromChunk(BlockPos nodePos) {
+        if (isValid()) {
+            this.worldData.removeNodeFromIndex(nodePos, this);
+        }
         ChunkPos chunkPos = new ChunkPos(nodePos);
         int newValue = this.ownedChunks.compute(chunkPos, (pos, old) -> old == null ? 0 : old - 1);
         if (newValue == 0) {
@@ -133,17 +140,10 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 //need to unblock node before doing canNodesConnectCheck
                 setBlocked(selfNode, facing, false);
                 if(canNodesConnect(selfNode, facing, getNodeAt(offsetPos), this)) {
-                    //now block again to call findAllConnectedBlocks
+                    //now block again to search for separated nodes
                     setBlocked(selfNode, facing, true);
-                    HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(nodePos);
-                    if (!getAllNodes().equals(thisENet)) {
-                        //node visibility has changed, split network into 2
-                        //node that code below is similar to removeNodeInternal, but only for 2 networks, and without node removal
-                        PipeNet<NodeDataType> newPipeNet = worldData.createNetInstance();
-                        thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                        newPipeNet.transferNodeData(thisENet, this);
-                        worldData.addPipeNet(newPipeNet);
-                    }
+                    //if node visibility has changed, split network into 2
+                    splitSeparatedComponents(Arrays.asList(nodePos, offsetPos));
                 }
             }
             //there is another network on that side
@@ -167,7 +167,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         if (!containsNode(nodePos)) {
             return;
         }
-        HashMap<BlockPos, Node<NodeDataType>> selfConnectedBlocks = null;
+        List<BlockPos> disconnectedPositions = null;
         Node<NodeDataType> selfNode = getNodeAt(nodePos);
         int oldMark = selfNode.mark;
         selfNode.mark = newMark;
@@ -190,26 +190,18 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
                 }
                 //marks are incompatible now, and this net is connected with it
             } else if (otherPipeNet == this) {
-                //search connected nodes from newly marked node
-                //populate self connected blocks lazily only once
-                if (selfConnectedBlocks == null) {
-                    selfConnectedBlocks = findAllConnectedBlocks(nodePos);
-                }
-                if (getAllNodes().equals(selfConnectedBlocks)) {
-                    continue; //if this node is still connected to this network, just continue
-                }
-                //otherwise, it is not connected
-                HashMap<BlockPos, Node<NodeDataType>> offsetConnectedBlocks = findAllConnectedBlocks(offsetPos);
-                //if in the result of remarking offset node has separated from main network,
-                //and it is also separated from current cable too, form new network for it
-                if (!offsetConnectedBlocks.equals(selfConnectedBlocks)) {
-                    offsetConnectedBlocks.keySet().forEach(this::removeNodeWithoutRebuilding);
-                    PipeNet<NodeDataType> offsetPipeNet = worldData.createNetInstance();
-                    offsetPipeNet.transferNodeData(offsetConnectedBlocks, this);
-                    worldData.addPipeNet(offsetPipeNet);
+                //collect lazily, search for separated nodes is done once after all merges
+                if (disconnectedPositions == null) {
+                    disconnectedPositions = new ArrayList<>();
+                    disconnectedPositions.add(nodePos);
                 }
+                disconnectedPositions.add(offsetPos);
             }
         }
+        if (disconnectedPositions != null) {
+            //form new network for every part that has separated from main network
+            splitSeparatedComponents(disconnectedPositions);
+        }
         onConnectionsUpdate();
         worldData.markDirty();
     }
@@ -287,40 +279,135 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         return observedSet;
     }
 
-    //called when node is removed to rebuild network
-    protected void rebuildNetworkOnNodeRemoval(BlockPos nodePos, Node<NodeDataType> selfNode) {
-        int amountOfConnectedSides = 0;
-        for (EnumFacing facing : EnumFacing.values()) {
-            BlockPos offsetPos = nodePos.offset(facing);
-            if (containsNode(offsetPos))
-                amountOfConnectedSides++;
+    /**
+     * Searches nodes reachable from each of given positions simultaneously, expanding one node of every search in turn
+     * Searches that meet are merged, and search stops once only one group of searches is still running,
+     * so when network stays connected, cost depends on distance between given positions rather than on network size
+     * @return groups of nodes which were fully explored without reaching the rest of given positions,
+     * which means they are separated from the part of network that search didn't finish
+     */
+    protected List<HashMap<BlockPos, Node<NodeDataType>>> findSeparatedComponents(List<BlockPos> startPositions) {
+        int searchCount = startPositions.size();
+        int[] searchGroups = new int[searchCount];
+        boolean[] finishedGroups = new boolean[searchCount];
+        List<ArrayDeque<BlockPos>> frontiers = new ArrayList<>(searchCount);
+        List<List<BlockPos>> visitedPositions = new ArrayList<>(searchCount);
+        TObjectIntMap<BlockPos> searchByPosition = new TObjectIntHashMap<>(10, 0.5f, -1);
+        int activeGroups = searchCount;
+        for (int i = 0; i < searchCount; i++) {
+            BlockPos startPos = startPositions.get(i).toImmutable();
+            searchGroups[i] = i;
+            frontiers.add(new ArrayDeque<>());
+            visitedPositions.add(new ArrayList<>());
+            int ownerSearch = searchByPosition.get(startPos);
+            if (ownerSearch != -1) {
+                //same position was given twice, so these searches are connected already
+                searchGroups[i] = findSearchGroup(searchGroups, ownerSearch);
+                activeGroups--;
+                continue;
+            }
+            searchByPosition.put(startPos, i);
+            frontiers.get(i).add(startPos);
+            visitedPositions.get(i).add(startPos);
         }
-        //if we are connected only on one side or not connected at all, we don't need to find connected blocks
-        //because they are only on on side or doesn't exist at all
-        //this saves a lot of performance in big networks, which are quite big to depth-first them fastly
-        if (amountOfConnectedSides >= 2) {
-            for (EnumFacing facing : EnumFacing.VALUES) {
-                BlockPos offsetPos = nodePos.offset(facing);
-                Node<NodeDataType> secondNode = getNodeAt(offsetPos);
-                if (secondNode == null || !canNodesConnect(selfNode, facing, secondNode, this)) {
-                    //if there isn't any neighbour node, or it wasn't connected with us, just skip it
+        List<HashMap<BlockPos, Node<NodeDataType>>> separatedComponents = new ArrayList<>();
+        MutableBlockPos offsetPos = new MutableBlockPos();
+        while (activeGroups > 1) {
+            for (int i = 0; i < searchCount && activeGroups > 1; i++) {
+                int searchGroup = findSearchGroup(searchGroups, i);
+                if (finishedGroups[searchGroup]) {
+                    continue;
+                }
+                ArrayDeque<BlockPos> frontier = frontiers.get(i);
+                if (frontier.isEmpty()) {
+                    if (isSearchGroupExhausted(searchGroups, frontiers, searchGroup)) {
+                        //this group has no more nodes to visit and never met others, so it is separated
+                        finishedGroups[searchGroup] = true;
+                        activeGroups--;
+                        HashMap<BlockPos, Node<NodeDataType>> separatedNodes = new HashMap<>();
+                        for (int j = 0; j < searchCount; j++) {
+                            if (findSearchGroup(searchGroups, j) == searchGroup) {
+                                visitedPositions.get(j).forEach(pos -> separatedNodes.put(pos, getNodeAt(pos)));
+                            }
+                        }
+                        separatedComponents.add(separatedNodes);
+                    }
                     continue;
                 }
-                HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(offsetPos);
-                if (getAllNodes().equals(thisENet)) {
-                    //if cable on some direction contains all nodes of this network
-                    //the network didn't change so keep it as is
-                    break;
-                } else {
-                    //and use them to create new network with caching active nodes set
-                    PipeNet<NodeDataType> energyNet = worldData.createNetInstance();
-                    //remove blocks that aren't connected with this network
-                    thisENet.keySet().forEach(this::removeNodeWithoutRebuilding);
-                    energyNet.transferNodeData(thisENet, this);
-                    worldData.addPipeNet(energyNet);
+                BlockPos currentPos = frontier.poll();
+                Node<NodeDataType> currentNode = getNodeAt(currentPos);
+                for (EnumFacing facing : EnumFacing.VALUES) {
+                    offsetPos.setPos(currentPos).move(facing);
+                    Node<NodeDataType> secondNode = getNodeAt(offsetPos);
+                    if (secondNode == null || !canNodesConnect(currentNode, facing, secondNode, this)) {
+                        continue;
+                    }
+                    int ownerSearch = searchByPosition.get(offsetPos);
+                    if (ownerSearch == -1) {
+                        BlockPos immutablePos = offsetPos.toImmutable();
+                        searchByPosition.put(immutablePos, i);
+                        frontier.add(immutablePos);
+                        visitedPositions.get(i).add(immutablePos);
+                    } else {
+                        int otherGroup = findSearchGroup(searchGroups, ownerSearch);
+                        if (otherGroup != searchGroup) {
+                            //searches have met, so their start positions are connected
+                            searchGroups[otherGroup] = searchGroup;
+                            activeGroups--;
+                        }
+                    }
                 }
             }
         }
+        return separatedComponents;
+    }
+
+    private static int findSearchGroup(int[] searchGroups, int search) {
+        while (searchGroups[search] != search) {
+            search = searchGroups[search];
+        }
+        return search;
+    }
+
+    private static boolean isSearchGroupExhausted(int[] searchGroups, List<ArrayDeque<BlockPos>> frontiers, int searchGroup) {
+        for (int i = 0; i < searchGroups.length; i++) {
+            if (!frontiers.get(i).isEmpty() && findSearchGroup(searchGroups, i) == searchGroup) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves every part of this network that became separated from the others into it's own network
+     * @param startPositions positions of nodes that might have lost connection to each other
+     */
+    protected void splitSeparatedComponents(List<BlockPos> startPositions) {
+        for (HashMap<BlockPos, Node<NodeDataType>> separatedNodes : findSeparatedComponents(startPositions)) {
+            PipeNet<NodeDataType> newPipeNet = worldData.createNetInstance();
+            //remove blocks that aren't connected with this network
+            separatedNodes.keySet().forEach(this::removeNodeWithoutRebuilding);
+            newPipeNet.transferNodeData(separatedNodes, this);
+            worldData.addPipeNet(newPipeNet);
+        }
+    }
+
+    //called when node is removed to rebuild network
+    protected void rebuildNetworkOnNodeRemoval(BlockPos nodePos, Node<NodeDataType> selfNode) {
+        List<BlockPos> connectedPositions = new ArrayList<>();
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            BlockPos offsetPos = nodePos.offset(facing);
+            Node<NodeDataType> secondNode = getNodeAt(offsetPos);
+            if (secondNode != null && canNodesConnect(selfNode, facing, secondNode, this)) {
+                connectedPositions.add(offsetPos);
+            }
+        }
+        //if we were connected only on one side or not connected at all, network can't be split
+        //otherwise only search until all neighbours are found to be connected again
+        //this saves a lot of performance in big networks, which are quite big to depth-first them fastly
+        if (connectedPositions.size() >= 2) {
+            splitSeparatedComponents(connectedPositions);
+        }
         if (getAllNodes().isEmpty()) {
             //if this energy net is empty now, remove it
             worldData.removePipeNet(this);
@@ -377,7 +464,6 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     }
 
     protected void deserializeAllNodeList(NBTTagCompound compound) {
-        NBTTagList allNodesList = compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND);
         NBTTagList wirePropertiesList = compound.getTagList("WireProperties", NBT.TAG_COMPOUND);
         TIntObjectMap<NodeDataType> readProperties = new TIntObjectHashMap<>();
 
@@ -388,6 +474,15 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
             readProperties.put(wirePropertiesIndex, nodeData);
         }
 
+        if (compound.hasKey("PackedNodes", NBT.TAG_BYTE_ARRAY)) {
+            deserializePackedNodes(compound.getByteArray("PackedNodes"), compound.getInteger("NodeCount"), readProperties);
+        } else {
+            //networks saved before packed format was introduced store every node as separate tag
+            deserializeNodeTags(compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND), readProperties);
+        }
+    }
+
+    private void deserializeNodeTags(NBTTagList allNodesList, TIntObjectMap<NodeDataType> readProperties) {
         for (int i = 0; i < allNodesList.tagCount(); i++) {
             NBTTagCompound nodeTag = allNodesList.getCompoundTagAt(i);
             int x = nodeTag.getInteger("x");
@@ -403,37 +498,68 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         }
     }
 
+    private void deserializePackedNodes(byte[] packedNodes, int nodeCount, TIntObjectMap<NodeDataType> readProperties) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(packedNodes));
+        long packedPos = 0L;
+        for (int i = 0; i < nodeCount; i++) {
+            packedPos += buffer.readVarLong();
+            int header = buffer.readVarInt();
+            NodeDataType nodeData = readProperties.get(header >>> 3);
+            int blockedConnections = (header & 2) > 0 ? buffer.readByte() : 0;
+            int mark = (header & 4) > 0 ? buffer.readVarInt() : Node.DEFAULT_MARK;
+            boolean isNodeActive = (header & 1) > 0;
+            addNodeSilently(BlockPos.fromLong(packedPos), new Node<>(nodeData, blockedConnections, mark, isNodeActive));
+        }
+    }
+
+    /**
+     * Writes node data palette as a tag list, and all nodes into single byte array, sorted by their packed position
+     * Every node is written as variable-length delta of packed position from previous node,
+     * variable-length header containing palette index and flags, and then optional blocked connections and mark
+     */
     protected NBTTagCompound serializeAllNodeList(Map<BlockPos, Node<NodeDataType>> allNodes) {
         NBTTagCompound compound = new NBTTagCompound();
-        NBTTagList allNodesList = new NBTTagList();
         NBTTagList wirePropertiesList = new NBTTagList();
         TObjectIntMap<NodeDataType> alreadyWritten = new TObjectIntHashMap<>(10, 0.5f, -1);
         int currentIndex = 0;
 
-        for (Entry<BlockPos, Node<NodeDataType>> entry : allNodes.entrySet()) {
-            BlockPos nodePos = entry.getKey();
-            Node<NodeDataType> node = entry.getValue();
-            NBTTagCompound nodeTag = new NBTTagCompound();
-            nodeTag.setInteger("x", nodePos.getX());
-            nodeTag.setInteger("y", nodePos.getY());
-            nodeTag.setInteger("z", nodePos.getZ());
+        long[] packedPositions = new long[allNodes.size()];
+        int nodeIndex = 0;
+        for (BlockPos nodePos : allNodes.keySet()) {
+            packedPositions[nodeIndex++] = nodePos.toLong();
+        }
+        //sorted positions of neighbour nodes are close to each other, so deltas are short
+        Arrays.sort(packedPositions);
+
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer(packedPositions.length * 4));
+        long lastPackedPos = 0L;
+        for (long packedPos : packedPositions) {
+            Node<NodeDataType> node = allNodes.get(BlockPos.fromLong(packedPos));
             int wirePropertiesIndex = alreadyWritten.get(node.data);
             if (wirePropertiesIndex == -1) {
                 wirePropertiesIndex = currentIndex;
                 alreadyWritten.put(node.data, wirePropertiesIndex);
                 currentIndex++;
             }
-            nodeTag.setInteger("index", wirePropertiesIndex);
+            int header = wirePropertiesIndex << 3;
+            if (node.isActive) {
+                header |= 1;
+            }
+            if (node.blockedConnections > 0) {
+                header |= 2;
+            }
             if (node.mark != Node.DEFAULT_MARK) {
-                nodeTag.setInteger("mark", node.mark);
+                header |= 4;
             }
+            buffer.writeVarLong(packedPos - lastPackedPos);
+            buffer.writeVarInt(header);
             if (node.blockedConnections > 0) {
-                nodeTag.setInteger("blocked", node.blockedConnections);
+                buffer.writeByte(node.blockedConnections);
             }
-            if (node.isActive) {
-                nodeTag.setBoolean("active", true);
+            if (node.mark != Node.DEFAULT_MARK) {
+                buffer.writeVarInt(node.mark);
             }
-            allNodesList.appendTag(nodeTag);
+            lastPackedPos = packedPos;
         }
 
         for (NodeDataType nodeData : alreadyWritten.keySet()) {
@@ -444,7 +570,10 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
             wirePropertiesList.appendTag(propertiesTag);
         }
 
-        compound.setTag("NodeIndexes", allNodesList);
+        byte[] packedNodes = new byte[buffer.readableBytes()];
+        buffer.readBytes(packedNodes);
+        compound.setInteger("NodeCount", packedPositions.length);
+        compound.setByteArray("PackedNodes", packedNodes);
         compound.setTag("WireProperties", wirePropertiesList);
         return compound;
     }
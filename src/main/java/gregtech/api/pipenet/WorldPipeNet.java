@@ -1,5 +1,7 @@
 package gregtech.api.pipenet;
 
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
@@ -17,6 +19,8 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     protected boolean isFirstTick = true;
     protected List<T> pipeNets = new ArrayList<>();
     protected Map<ChunkPos, List<T>> pipeNetsByChunk = new HashMap<>();
+    //nets of valid networks indexed by packed position of every their node
+    protected TLongObjectMap<T> pipeNetsByNodePos = new TLongObjectHashMap<>();
 
     public WorldPipeNet(String name) {
         super(name);
@@ -74,6 +78,18 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         if (list.isEmpty()) this.pipeNetsByChunk.remove(chunkPos);
     }
 
+    protected void addNodeToIndex(BlockPos nodePos, T pipeNet) {
+        this.pipeNetsByNodePos.put(nodePos.toLong(), pipeNet);
+    }
+
+    protected void removeNodeFromIndex(BlockPos nodePos, T pipeNet) {
+        long packedPos = nodePos.toLong();
+        //node can already belong to another net if it was transferred to it
+        if (pipeNetsByNodePos.get(packedPos) == pipeNet) {
+            this.pipeNetsByNodePos.remove(packedPos);
+        }
+    }
+
     public void removeNode(BlockPos nodePos) {
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
@@ -96,12 +112,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     }
 
     public T getNetFromPos(BlockPos blockPos) {
-        List<T> pipeNetsInChunk = pipeNetsByChunk.getOrDefault(new ChunkPos(blockPos), Collections.emptyList());
-        for (T pipeNet : pipeNetsInChunk) {
-            if (pipeNet.containsNode(blockPos))
-                return pipeNet;
-        }
-        return null;
+        return pipeNetsByNodePos.get(blockPos.toLong());
     }
 
     protected void addPipeNet(T pipeNet) {
@@ -111,12 +122,14 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     protected void addPipeNetSilently(T pipeNet) {
         this.pipeNets.add(pipeNet);
         pipeNet.getContainedChunks().forEach(chunkPos -> addPipeNetToChunk(chunkPos, pipeNet));
+        pipeNet.getAllNodes().keySet().forEach(nodePos -> addNodeToIndex(nodePos, pipeNet));
         pipeNet.isValid = true;
     }
 
     protected void removePipeNet(T pipeNet) {
         this.pipeNets.remove(pipeNet);
         pipeNet.getContainedChunks().forEach(chunkPos -> removePipeNetFromChunk(chunkPos, pipeNet));
+        pipeNet.getAllNodes().keySet().forEach(nodePos -> removeNodeFromIndex(nodePos, pipeNet));
         pipeNet.isValid = false;
     }
 
@@ -125,6 +138,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     @Override
     public void readFromNBT(NBTTagCompound nbt) {
         this.pipeNets = new ArrayList<>();
+        this.pipeNetsByNodePos = new TLongObjectHashMap<>();
         NBTTagList allEnergyNets = nbt.getTagList("PipeNets", NBT.TAG_COMPOUND);
         for (int i = 0; i < allEnergyNets.tagCount(); i++) {
             NBTTagCompound pNetTag = allEnergyNets.getCompoundTagAt(i);
@@ -1,13 +1,18 @@
 package gregtech.api.recipes;
 
+import gregtech.api.unification.OreDictUnifier;
 import gregtech.api.unification.material.type.Material;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.UnificationEntry;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.oredict.OreDictionary;
 import net.minecraftforge.oredict.OreIngredient;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 public class CountableIngredient {
@@ -21,11 +26,11 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(String oredict) {
-        return new CountableIngredient(new OreIngredient(oredict), 1);
+        return new CountableIngredient(oredict, 1);
     }
 
     public static CountableIngredient from(String oredict, int count) {
-        return new CountableIngredient(new OreIngredient(oredict), count);
+        return new CountableIngredient(oredict, count);
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material) {
@@ -33,15 +38,81 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material, int count) {
-        return new CountableIngredient(new OreIngredient(new UnificationEntry(prefix, material).toString()), count);
+        return new CountableIngredient(new UnificationEntry(prefix, material).toString(), count);
     }
 
     private Ingredient ingredient;
     private int count;
+    @Nullable
+    private final String oreDictName;
+
+    //item and meta pairs accepted by ingredient, compiled from it's matching stacks or ore dictionary entries
+    private Object compiledFrom;
+    private int compiledSize;
+    //ore dictionary registration version compiled ore entries are up to date with
+    private int compiledOreVersion;
+    private Item[] matchingItems;
+    private int[] matchingMetas;
 
     public CountableIngredient(Ingredient ingredient, int count) {
         this.ingredient = ingredient;
         this.count = count;
+        this.oreDictName = null;
+    }
+
+    private CountableIngredient(String oreDictName, int count) {
+        this.ingredient = new OreIngredient(oreDictName);
+        this.count = count;
+        this.oreDictName = oreDictName;
+    }
+
+    /**
+     * Same as applying {@link #getIngredient()} to given stack, but plain item ingredients and ore dictionary ingredients
+     * are checked against item and meta arrays compiled on first use, without going through ingredient
+     */
+    public boolean matches(ItemStack itemStack) {
+        if (oreDictName != null) {
+            //ore dictionary entries can still be registered or removed after recipe creation,
+            //registrations are caught by version and plain removals by size of the list
+            List<ItemStack> oreStacks = OreDictionary.getOres(oreDictName, false);
+            int oreVersion = OreDictUnifier.getRegistrationVersion();
+            if (oreStacks != compiledFrom || oreStacks.size() != compiledSize || oreVersion != compiledOreVersion) {
+                compile(oreStacks);
+                this.compiledOreVersion = oreVersion;
+            }
+        } else if (ingredient.getClass() == Ingredient.class) {
+            ItemStack[] matchingStacks = ingredient.getMatchingStacks();
+            if (matchingStacks != compiledFrom) {
+                compile(Arrays.asList(matchingStacks));
+                this.compiledFrom = matchingStacks;
+            }
+        } else {
+            return ingredient.apply(itemStack);
+        }
+        Item item = itemStack.getItem();
+        int metadata = itemStack.getMetadata();
+        Item[] matchingItems = this.matchingItems;
+        int[] matchingMetas = this.matchingMetas;
+        for (int i = 0; i < matchingItems.length && i < matchingMetas.length; i++) {
+            if (matchingItems[i] == item && (matchingMetas[i] == OreDictionary.WILDCARD_VALUE || matchingMetas[i] == metadata)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void compile(List<ItemStack> matchingStacks) {
+        Item[] matchingItems = new Item[matchingStacks.size()];
+        int[] matchingMetas = new int[matchingStacks.size()];
+        for (int i = 0; i < matchingItems.length; i++) {
+            ItemStack matchingStack = matchingStacks.get(i);
+            matchingItems[i] = matchingStack.getItem();
+            matchingMetas[i] = matchingStack.getMetadata();
+        }
+        this.matchingItems = matchingItems;
+        this.matchingMetas = matchingMetas;
+        this.compiledFrom = matchingStacks;
+        this.compiledSize = matchingStacks.size();
     }
 
     public Ingredient getIngredient() {
@@ -9,7 +9,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.items.IItemHandlerModifiable;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -36,6 +35,9 @@ public class Recipe {
         return String.format("%.2f", outputChance / (getMaxChancedValue() * 1.0) * 100);
     }
 
+    private static final ThreadLocal<int[][]> ITEM_AMOUNT_BUFFER = ThreadLocal.withInitial(() -> new int[][]{new int[0]});
+    private static final ThreadLocal<int[][]> FLUID_AMOUNT_BUFFER = ThreadLocal.withInitial(() -> new int[][]{new int[0]});
+
     private final List<CountableIngredient> inputs;
     private final NonNullList<ItemStack> outputs;
 
@@ -114,16 +116,17 @@ public class Recipe {
      * @return true if the recipe matches the given inputs false otherwise.
      */
     public boolean matches(boolean consumeIfSuccessful, List<ItemStack> inputs, List<FluidStack> fluidInputs, MatchingMode matchingMode) {
-        Pair<Boolean, Integer[]> fluids = null;
-        Pair<Boolean, Integer[]> items = null;
+        //amounts left in slots and tanks after taking recipe inputs, buffers are reused between calls
+        int[] fluidAmountInTank = null;
+        int[] itemAmountInSlot = null;
 
         if (matchingMode == MatchingMode.IGNORE_FLUIDS) {
             if (getInputs().isEmpty()) {
                 return false;
             }
         } else {
-            fluids = matchesFluid(fluidInputs);
-            if (!fluids.getKey()) {
+            fluidAmountInTank = getAmountBuffer(FLUID_AMOUNT_BUFFER, fluidInputs.size());
+            if (!matchesFluid(fluidInputs, fluidAmountInTank)) {
                 return false;
             }
         }
@@ -133,16 +136,14 @@ public class Recipe {
                 return false;
             }
         } else {
-            items = matchesItems(inputs);
-            if (!items.getKey()) {
+            itemAmountInSlot = getAmountBuffer(ITEM_AMOUNT_BUFFER, inputs.size());
+            if (!matchesItems(inputs, itemAmountInSlot)) {
                 return false;
             }
         }
 
         if (consumeIfSuccessful && matchingMode == MatchingMode.DEFAULT) {
-            Integer[] fluidAmountInTank = fluids.getValue();
-            Integer[] itemAmountInSlot = items.getValue();
-            for (int i = 0; i < fluidAmountInTank.length; i++) {
+            for (int i = 0; i < fluidInputs.size(); i++) {
                 FluidStack fluidStack = fluidInputs.get(i);
                 int fluidAmount = fluidAmountInTank[i];
                 if (fluidStack == null || fluidStack.amount == fluidAmount)
@@ -151,36 +152,46 @@ public class Recipe {
                 if (fluidStack.amount == 0)
                     fluidInputs.set(i, null);
             }
-            for (int i = 0; i < itemAmountInSlot.length; i++) {
+            for (int i = 0; i < inputs.size(); i++) {
                 ItemStack itemInSlot = inputs.get(i);
                 int itemAmount = itemAmountInSlot[i];
                 if (itemInSlot.isEmpty() || itemInSlot.getCount() == itemAmount)
                     continue;
-                itemInSlot.setCount(itemAmountInSlot[i]);
+                itemInSlot.setCount(itemAmount);
             }
         }
 
         return true;
     }
 
-    private Pair<Boolean, Integer[]> matchesItems(List<ItemStack> inputs) {
-        Integer[] itemAmountInSlot = new Integer[inputs.size()];
+    private static int[] getAmountBuffer(ThreadLocal<int[][]> bufferHolder, int size) {
+        int[][] holder = bufferHolder.get();
+        if (holder[0].length < size) {
+            holder[0] = new int[size];
+        }
+        return holder[0];
+    }
 
-        for (int i = 0; i < itemAmountInSlot.length; i++) {
+    private boolean matchesItems(List<ItemStack> inputs, int[] itemAmountInSlot) {
+        int slots = inputs.size();
+        for (int i = 0; i < slots; i++) {
             ItemStack itemInSlot = inputs.get(i);
             itemAmountInSlot[i] = itemInSlot.isEmpty() ? 0 : itemInSlot.getCount();
         }
 
-        for (CountableIngredient ingredient : this.inputs) {
+        for (int j = 0; j < this.inputs.size(); j++) {
+            CountableIngredient ingredient = this.inputs.get(j);
             int ingredientAmount = ingredient.getCount();
             boolean isNotConsumed = false;
             if (ingredientAmount == 0) {
                 ingredientAmount = 1;
                 isNotConsumed = true;
             }
-            for (int i = 0; i < inputs.size(); i++) {
+            for (int i = 0; i < slots; i++) {
+                //skip slots already used up by previous ingredients before testing ingredient
+                if (itemAmountInSlot[i] == 0) continue;
                 ItemStack inputStack = inputs.get(i);
-                if (inputStack.isEmpty() || !ingredient.getIngredient().apply(inputStack))
+                if (!ingredient.matches(inputStack))
                     continue;
                 int itemAmountToConsume = Math.min(itemAmountInSlot[i], ingredientAmount);
                 ingredientAmount -= itemAmountToConsume;
@@ -188,30 +199,30 @@ public class Recipe {
                 if (ingredientAmount == 0) break;
             }
             if (ingredientAmount > 0)
-                return Pair.of(false, itemAmountInSlot);
+                return false;
         }
-
-        return Pair.of(true, itemAmountInSlot);
+        return true;
     }
 
-    private Pair<Boolean, Integer[]> matchesFluid(List<FluidStack> fluidInputs) {
-        Integer[] fluidAmountInTank = new Integer[fluidInputs.size()];
-
-        for (int i = 0; i < fluidAmountInTank.length; i++) {
+    private boolean matchesFluid(List<FluidStack> fluidInputs, int[] fluidAmountInTank) {
+        int tanks = fluidInputs.size();
+        for (int i = 0; i < tanks; i++) {
             FluidStack fluidInTank = fluidInputs.get(i);
             fluidAmountInTank[i] = fluidInTank == null ? 0 : fluidInTank.amount;
         }
 
-        for (FluidStack fluid : this.fluidInputs) {
+        for (int j = 0; j < this.fluidInputs.size(); j++) {
+            FluidStack fluid = this.fluidInputs.get(j);
             int fluidAmount = fluid.amount;
             boolean isNotConsumed = false;
             if (fluidAmount == 0) {
                 fluidAmount = 1;
                 isNotConsumed = true;
             }
-            for (int i = 0; i < fluidInputs.size(); i++) {
+            for (int i = 0; i < tanks; i++) {
+                if (fluidAmountInTank[i] == 0) continue;
                 FluidStack tankFluid = fluidInputs.get(i);
-                if (tankFluid == null || !tankFluid.isFluidEqual(fluid))
+                if (!tankFluid.isFluidEqual(fluid))
                     continue;
                 int fluidAmountToConsume = Math.min(fluidAmountInTank[i], fluidAmount);
                 fluidAmount -= fluidAmountToConsume;
@@ -219,9 +230,9 @@ public class Recipe {
                 if (fluidAmount == 0) break;
             }
             if (fluidAmount > 0)
-                return Pair.of(false, fluidAmountInTank);
+                return false;
         }
-        return Pair.of(true, fluidAmountInTank);
+        return true;
     }
 
     ///////////////////
@@ -20,16 +20,17 @@ import gregtech.api.recipes.builders.IntCircuitRecipeBuilder;
 import gregtech.api.recipes.crafttweaker.CTRecipe;
 import gregtech.api.recipes.crafttweaker.CTRecipeBuilder;
 import gregtech.api.recipes.map.MapFluidIngredient;
-import gregtech.api.recipes.map.MapItemStackIngredient;
+import gregtech.api.recipes.map.RecipeInputIndex;
 import gregtech.api.unification.material.type.Material;
 import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.util.EnumValidationResult;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.RecipeLRUCache;
 import gregtech.api.util.ValidationResult;
+import gregtech.common.ConfigHolder;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.Ingredient;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.common.Optional.Method;
@@ -66,9 +67,11 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     public final boolean isHidden;
 
     private final Map<MapFluidIngredient, Collection<Recipe>> recipeFluidMap = new HashMap<>();
-    private final Map<MapItemStackIngredient, Collection<Recipe>> recipeItemMap = new HashMap<>();
-    private final Map<Recipe, Byte> recipeIngredientCountMap = new HashMap<>();
+    private final RecipeInputIndex recipeInputIndex = new RecipeInputIndex();
     private final Collection<Recipe> recipeList = new ArrayList<>();
+    private RecipeLRUCache sharedRecipeCache;
+    private long machineCacheHits;
+    private long machineCacheMisses;
 
     public RecipeMap(String unlocalizedName,
                      int minInputs, int maxInputs, int minOutputs, int maxOutputs,
@@ -177,27 +180,10 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         }
         Recipe recipe = validationResult.getResult();
         recipeList.add(recipe);
-        HashSet<MapFluidIngredient> uniqueFluidIngredients = new HashSet<>();
         for (FluidStack fluid : recipe.getFluidInputs()) {
-            MapFluidIngredient fluidIngredient = new MapFluidIngredient(fluid);
-            uniqueFluidIngredients.add(fluidIngredient);
-            recipeFluidMap.computeIfAbsent(fluidIngredient, k -> new HashSet<>(1)).add(recipe);
+            recipeFluidMap.computeIfAbsent(new MapFluidIngredient(fluid), k -> new HashSet<>(1)).add(recipe);
         }
-
-        HashSet<MapItemStackIngredient> uniqueItemIngredients = new HashSet<>();
-        for (CountableIngredient item : recipe.getInputs()) {
-            Ingredient ingredient = item.getIngredient();
-            ItemStack[] itemStacks = ingredient.getMatchingStacks();
-            if (itemStacks.length == 0) continue;
-            uniqueItemIngredients.add(new MapItemStackIngredient(itemStacks[0].copy()));
-            for (ItemStack itemStack : itemStacks) {
-                ItemStack newItemStack = itemStack.copy();
-                recipeItemMap.computeIfAbsent(new MapItemStackIngredient(newItemStack), k -> new HashSet<>(1)).add(recipe);
-            }
-        }
-        byte uniqueIngredients = 0;
-        uniqueIngredients += (byte) (uniqueFluidIngredients.size() + uniqueItemIngredients.size());
-        recipeIngredientCountMap.put(recipe, uniqueIngredients);
+        recipeInputIndex.addRecipe(recipe);
     }
 
     public boolean removeRecipe(Recipe recipe) {
@@ -206,9 +192,11 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
             //also iterate through fluid mappings and remove recipe from them
             recipeFluidMap.values().forEach(fluidMap ->
                     fluidMap.removeIf(fluidRecipe -> fluidRecipe == recipe));
-            //also iterate through item mappings and remove recipe from them
-            recipeItemMap.values().forEach(itemMap ->
-                    itemMap.removeIf(itemRecipe -> itemRecipe == recipe));
+            //and drop it from the input index
+            recipeInputIndex.removeRecipe(recipe);
+            if (sharedRecipeCache != null) {
+                sharedRecipeCache.clear();
+            }
             return true;
         }
         return false;
@@ -273,7 +261,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      * @param fluidInputs              the Fluid Inputs
      * @param outputFluidTankCapacity  minimal capacity of output fluid tank, used for fluid canner recipes for example
      * @param matchingMode             matching logic used for finding the recipe according to {@link MatchingMode}
-     * @param useOptimizedRecipeLookUp use hash maps for recipe lookup, it is fast but might not able to detect some of the recipes
+     * @param useOptimizedRecipeLookUp use the precompiled {@link RecipeInputIndex} for recipe lookup, it is fast but might not able to detect some of the recipes
      * @return the Recipe it has found or null for no matching Recipe
      */
     @Nullable
@@ -326,59 +314,55 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     @Nullable
     private Recipe findWithHashMap(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, MatchingMode matchingMode) {
-        HashSet<MapItemStackIngredient> uniqueItems = new HashSet<>();
-        HashSet<MapFluidIngredient> uniqueFluids = new HashSet<>();
+        return recipeInputIndex.findRecipe(voltage, inputs, fluidInputs, matchingMode);
+    }
 
-        for (ItemStack item : inputs) {
-            uniqueItems.add(new MapItemStackIngredient(item));
-        }
-        for (FluidStack fluid : fluidInputs) {
-            if (fluid == null) continue;
-            uniqueFluids.add(new MapFluidIngredient(fluid));
+    /**
+     * @return recipe cache shared between all machines using this recipe map,
+     * or null if it is disabled in config
+     */
+    @Nullable
+    public RecipeLRUCache getSharedRecipeCache() {
+        if (sharedRecipeCache == null && ConfigHolder.sharedRecipeCacheSize > 0) {
+            this.sharedRecipeCache = new RecipeLRUCache(ConfigHolder.sharedRecipeCacheSize);
         }
+        return sharedRecipeCache;
+    }
 
-        HashMap<Recipe, Byte> recipeLeftoverIngredients = new HashMap<>();
-        for (MapItemStackIngredient item : uniqueItems) {
-            boolean hasRecipes = recipeItemMap.containsKey(item);
-            if (!hasRecipes) continue;
-            Collection<Recipe> recipes = recipeItemMap.get(item);
-            for (Recipe recipe : recipes) {
-                Byte leftOverIngredients = recipeLeftoverIngredients.getOrDefault(recipe,
-                        recipeIngredientCountMap.getOrDefault(recipe, (byte) 0));
-                leftOverIngredients--;
-                recipeLeftoverIngredients.put(recipe, leftOverIngredients);
-                if (leftOverIngredients > 0) {
-                    continue;
-                }
-                boolean isMatch = recipe.matches(false, inputs, fluidInputs, matchingMode);
-                if (isMatch) {
-                    return recipe;
-                }
-            }
+    /**
+     * @return shared recipe cache of this recipe map, or null if no machine used it yet.
+     * Unlike {@link #getSharedRecipeCache()} never creates cache, meant for statistics
+     */
+    @Nullable
+    public RecipeLRUCache getSharedRecipeCacheIfCreated() {
+        return sharedRecipeCache;
+    }
+
+    /**
+     * Records result of machine's own recipe cache lookup, used for cache statistics
+     */
+    public void recordMachineCacheLookup(boolean hit) {
+        if (hit) {
+            this.machineCacheHits++;
+        } else {
+            this.machineCacheMisses++;
         }
-        for (MapFluidIngredient fluid : uniqueFluids) {
-            boolean hasRecipes = recipeFluidMap.containsKey(fluid);
-            if (!hasRecipes) continue;
-            Collection<Recipe> recipes = recipeFluidMap.get(fluid);
-            for (Recipe recipe : recipes) {
-                Byte leftOverIngredients = recipeLeftoverIngredients.getOrDefault(recipe,
-                        recipeIngredientCountMap.getOrDefault(recipe, (byte) 0));
-                leftOverIngredients--;
-                recipeLeftoverIngredients.put(recipe, leftOverIngredients);
-                if (leftOverIngredients > 0) {
-                    continue;
-                }
-                int v = recipe.getEUt();
-                if (voltage < v) {
-                    continue;
-                }
-                boolean isMatch = recipe.matches(false, inputs, fluidInputs, matchingMode);
-                if (isMatch) {
-                    return recipe;
-                }
-            }
+    }
+
+    public long getMachineCacheHits() {
+        return machineCacheHits;
+    }
+
+    public long getMachineCacheMisses() {
+        return machineCacheMisses;
+    }
+
+    public void resetCacheStatistics() {
+        this.machineCacheHits = 0;
+        this.machineCacheMisses = 0;
+        if (sharedRecipeCache != null) {
+            sharedRecipeCache.resetStatistics();
         }
-        return null;
     }
 
     public ModularUI.Builder createJeiUITemplate(IItemHandlerModifiable importItems, IItemHandlerModifiable exportItems, FluidTankList importFluids, FluidTankList exportFluids) {
@@ -0,0 +1,268 @@
+package gregtech.api.recipes.map;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.MatchingMode;
+import gregtech.api.recipes.Recipe;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Precompiled input index used by {@link gregtech.api.recipes.RecipeMap} for optimized recipe lookup.
+ * <p>
+ * Every distinct item (item + metadata) and fluid (by name) that appears in a recipe input gets an ingredient id.
+ * Each recipe input (item ingredient or fluid) is a group with its own bit in the recipe's group mask.
+ * For every ingredient id the index keeps a posting list of packed (recipe id, groups satisfied) entries.
+ * <p>
+ * Lookup ORs the posting masks into per-thread scratch buffers, and a recipe is only passed to
+ * {@link Recipe#matches} once every one of its groups is satisfied by some input. Lookup does not allocate.
+ * <p>
+ * Recipes with more than 32 input groups can't be represented in a mask and are always checked directly.
+ */
+public class RecipeInputIndex {
+
+    private static final int MAX_GROUPS = Integer.SIZE;
+    private static final int NO_ID = -1;
+
+    private final Map<Item, TIntIntMap> itemIds = new HashMap<>();
+    private final TObjectIntMap<String> fluidIds = new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, NO_ID);
+    private final List<TLongArrayList> postings = new ArrayList<>();
+
+    //indexed by recipe id, removed recipes leave a null hole behind
+    private final List<Recipe> recipes = new ArrayList<>();
+    private final TIntArrayList itemGroupMasks = new TIntArrayList();
+    private final TIntArrayList fluidGroupMasks = new TIntArrayList();
+    private final Map<Recipe, TIntArrayList> recipeIngredientIds = new IdentityHashMap<>();
+    private final Map<Recipe, Integer> recipeIds = new IdentityHashMap<>();
+    private final List<Recipe> unindexedRecipes = new ArrayList<>();
+
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    public void addRecipe(Recipe recipe) {
+        if (recipeIds.containsKey(recipe)) {
+            return;
+        }
+        List<CountableIngredient> inputs = recipe.getInputs();
+        List<FluidStack> fluidInputs = recipe.getFluidInputs();
+        if (inputs.size() + fluidInputs.size() > MAX_GROUPS) {
+            unindexedRecipes.add(recipe);
+            return;
+        }
+        int recipeId = recipes.size();
+        recipes.add(recipe);
+        recipeIds.put(recipe, recipeId);
+
+        //collect groups satisfied by each ingredient id first, so every id gets exactly one posting
+        TIntIntMap ingredientMasks = new TIntIntHashMap();
+        int itemGroupMask = 0;
+        int fluidGroupMask = 0;
+        int group = 0;
+        for (CountableIngredient input : inputs) {
+            ItemStack[] matchingStacks = input.getIngredient().getMatchingStacks();
+            if (matchingStacks.length == 0) continue;
+            int groupBit = 1 << group++;
+            itemGroupMask |= groupBit;
+            for (ItemStack itemStack : matchingStacks) {
+                if (itemStack.isEmpty()) continue;
+                int ingredientId = getOrCreateItemId(itemStack);
+                ingredientMasks.put(ingredientId, ingredientMasks.get(ingredientId) | groupBit);
+            }
+        }
+        for (FluidStack fluidStack : fluidInputs) {
+            int groupBit = 1 << group++;
+            fluidGroupMask |= groupBit;
+            int ingredientId = getOrCreateFluidId(fluidStack);
+            ingredientMasks.put(ingredientId, ingredientMasks.get(ingredientId) | groupBit);
+        }
+
+        itemGroupMasks.add(itemGroupMask);
+        fluidGroupMasks.add(fluidGroupMask);
+        recipeIngredientIds.put(recipe, new TIntArrayList(ingredientMasks.keys()));
+        ingredientMasks.forEachEntry((ingredientId, mask) -> {
+            postings.get(ingredientId).add(pack(recipeId, mask));
+            return true;
+        });
+    }
+
+    public boolean removeRecipe(Recipe recipe) {
+        if (unindexedRecipes.remove(recipe)) {
+            return true;
+        }
+        Integer recipeId = recipeIds.remove(recipe);
+        if (recipeId == null) {
+            return false;
+        }
+        TIntArrayList ingredientIds = recipeIngredientIds.remove(recipe);
+        for (int i = 0; i < ingredientIds.size(); i++) {
+            TLongArrayList ingredientPostings = postings.get(ingredientIds.getQuick(i));
+            for (int j = ingredientPostings.size() - 1; j >= 0; j--) {
+                if (unpackRecipeId(ingredientPostings.getQuick(j)) == recipeId) {
+                    ingredientPostings.removeAt(j);
+                }
+            }
+        }
+        recipes.set(recipeId, null);
+        itemGroupMasks.set(recipeId, 0);
+        fluidGroupMasks.set(recipeId, 0);
+        return true;
+    }
+
+    /**
+     * Finds the first recipe whose inputs are satisfied by given items and fluids
+     * and which doesn't require more than given voltage
+     */
+    @Nullable
+    public Recipe findRecipe(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, MatchingMode matchingMode) {
+        Scratch scratch = this.scratch.get();
+        scratch.begin(recipes.size());
+
+        for (int i = 0; i < inputs.size(); i++) {
+            ItemStack itemStack = inputs.get(i);
+            if (itemStack.isEmpty()) continue;
+            TIntIntMap metaIds = itemIds.get(itemStack.getItem());
+            if (metaIds == null) continue;
+            Recipe recipe = visitIngredient(scratch, metaIds.get(itemStack.getMetadata()), voltage, inputs, fluidInputs, matchingMode);
+            if (recipe != null) {
+                return recipe;
+            }
+            recipe = visitIngredient(scratch, metaIds.get(OreDictionary.WILDCARD_VALUE), voltage, inputs, fluidInputs, matchingMode);
+            if (recipe != null) {
+                return recipe;
+            }
+        }
+        for (int i = 0; i < fluidInputs.size(); i++) {
+            FluidStack fluidStack = fluidInputs.get(i);
+            if (fluidStack == null) continue;
+            Recipe recipe = visitIngredient(scratch, fluidIds.get(fluidStack.getFluid().getName()), voltage, inputs, fluidInputs, matchingMode);
+            if (recipe != null) {
+                return recipe;
+            }
+        }
+        for (int i = 0; i < unindexedRecipes.size(); i++) {
+            Recipe recipe = unindexedRecipes.get(i);
+            if (voltage >= recipe.getEUt() && recipe.matches(false, inputs, fluidInputs, matchingMode)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private Recipe visitIngredient(Scratch scratch, int ingredientId, long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs, MatchingMode matchingMode) {
+        if (ingredientId == NO_ID) {
+            return null;
+        }
+        TLongArrayList ingredientPostings = postings.get(ingredientId);
+        for (int i = 0; i < ingredientPostings.size(); i++) {
+            long posting = ingredientPostings.getQuick(i);
+            int recipeId = unpackRecipeId(posting);
+            int previousMask = scratch.getMask(recipeId);
+            int currentMask = previousMask | unpackMask(posting);
+            if (currentMask == previousMask) continue;
+            scratch.setMask(recipeId, currentMask);
+
+            int requiredMask = getRequiredMask(recipeId, matchingMode);
+            //only check recipe at the moment its last required group gets satisfied
+            if (requiredMask == 0 || (currentMask & requiredMask) != requiredMask ||
+                    (previousMask & requiredMask) == requiredMask) continue;
+            Recipe recipe = recipes.get(recipeId);
+            if (voltage >= recipe.getEUt() && recipe.matches(false, inputs, fluidInputs, matchingMode)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    private int getRequiredMask(int recipeId, MatchingMode matchingMode) {
+        switch (matchingMode) {
+            case IGNORE_ITEMS:
+                return fluidGroupMasks.getQuick(recipeId);
+            case IGNORE_FLUIDS:
+                return itemGroupMasks.getQuick(recipeId);
+            default:
+                return itemGroupMasks.getQuick(recipeId) | fluidGroupMasks.getQuick(recipeId);
+        }
+    }
+
+    private int getOrCreateItemId(ItemStack itemStack) {
+        TIntIntMap metaIds = itemIds.computeIfAbsent(itemStack.getItem(),
+                k -> new TIntIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, NO_ID, NO_ID));
+        int ingredientId = metaIds.get(itemStack.getMetadata());
+        if (ingredientId == NO_ID) {
+            ingredientId = createIngredientId();
+            metaIds.put(itemStack.getMetadata(), ingredientId);
+        }
+        return ingredientId;
+    }
+
+    private int getOrCreateFluidId(FluidStack fluidStack) {
+        String fluidName = fluidStack.getFluid().getName();
+        int ingredientId = fluidIds.get(fluidName);
+        if (ingredientId == NO_ID) {
+            ingredientId = createIngredientId();
+            fluidIds.put(fluidName, ingredientId);
+        }
+        return ingredientId;
+    }
+
+    private int createIngredientId() {
+        postings.add(new TLongArrayList(2));
+        return postings.size() - 1;
+    }
+
+    private static long pack(int recipeId, int mask) {
+        return ((long) recipeId << 32) | (mask & 0xFFFFFFFFL);
+    }
+
+    private static int unpackRecipeId(long posting) {
+        return (int) (posting >>> 32);
+    }
+
+    private static int unpackMask(long posting) {
+        return (int) posting;
+    }
+
+    /**
+     * Per-thread lookup state. Masks are lazily reset by comparing
+     * the stamp of each recipe with the current lookup generation
+     */
+    private static class Scratch {
+
+        private int[] masks = new int[0];
+        private int[] stamps = new int[0];
+        private int generation;
+
+        private void begin(int recipeCount) {
+            if (masks.length < recipeCount) {
+                int newLength = Math.max(recipeCount, masks.length * 2);
+                this.masks = new int[newLength];
+                this.stamps = new int[newLength];
+                this.generation = 0;
+            }
+            if (++generation == 0) {
+                Arrays.fill(stamps, 0);
+                this.generation = 1;
+            }
+        }
+
+        private int getMask(int recipeId) {
+            return stamps[recipeId] == generation ? masks[recipeId] : 0;
+        }
+
+        private void setMask(int recipeId, int mask) {
+            this.stamps[recipeId] = generation;
+            this.masks[recipeId] = mask;
+        }
+    }
+}
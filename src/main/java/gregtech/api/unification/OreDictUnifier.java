@@ -41,6 +41,7 @@ public class OreDictUnifier {
 
     @Nullable
     private static Comparator<ItemAndMetadata> stackComparator;
+    private static volatile int registrationVersion;
 
     public static Comparator<ItemAndMetadata> getSimpleItemStackComparator() {
         if (stackComparator == null) {
@@ -103,6 +104,7 @@ public class OreDictUnifier {
         String oreName = event.getName();
         //cache this registration by name
         stackOreDictName.computeIfAbsent(simpleItemStack, k -> new HashSet<>()).add(oreName);
+        registrationVersion++;
         List<ItemStack> itemStackListForOreDictName = oreDictNameStacks.computeIfAbsent(oreName, k -> new ArrayList<>());
         addAndSort(itemStackListForOreDictName, event.getOre().copy(), getItemStackComparator());
 
@@ -159,6 +161,14 @@ public class OreDictUnifier {
         }
     }
 
+    /**
+     * @return counter changed on every ore dictionary registration,
+     * used to invalidate data computed from ore dictionary names of items
+     */
+    public static int getRegistrationVersion() {
+        return registrationVersion;
+    }
+
     public static Set<String> getOreDictionaryNames(ItemStack itemStack) {
         if (itemStack.isEmpty()) return Collections.emptySet();
         ItemAndMetadata simpleItemStack = new ItemAndMetadata(itemStack);
@@ -1,22 +1,72 @@
 package gregtech.api.util;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 
-import java.util.Objects;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * ItemStackKey implementation intended to be used
  * as a key in hash maps for itemstack comparision reasons
  * Objects of ItemStackKey are equal only if their contained
  * ItemStacks are equal (excluding stack size)
+ * <p>
+ * Hash code is computed once on creation. Keys obtained with {@link #of(ItemStack)} are canonical:
+ * there is only one such key for every item type, so they can be compared by identity,
+ * and looking up key of already known type doesn't copy the stack
  */
 public final class ItemStackKey {
 
-    private final ItemStack itemStack;
+    //canonical keys are only weakly held, so types nobody keeps keys of can be collected
+    private static final Map<ItemStackKey, WeakReference<ItemStackKey>> canonicalKeys = new WeakHashMap<>();
+    private static final ThreadLocal<ItemStackKey> lookupKey = ThreadLocal.withInitial(ItemStackKey::new);
+
+    //only lookup keys change their stack, it's borrowed for the duration of lookup
+    private ItemStack itemStack;
+    private int hashCode;
+    private boolean canonical;
+
+    private ItemStackKey() {
+        this.itemStack = ItemStack.EMPTY;
+    }
 
     public ItemStackKey(ItemStack itemStack) {
         this.itemStack = itemStack.copy();
         this.itemStack.setCount(1);
+        this.hashCode = computeHashCode(this.itemStack);
+    }
+
+    /**
+     * @return canonical key of given stack, given stack is only read and is copied only if
+     * no key of it's type is known yet
+     */
+    public static ItemStackKey of(ItemStack itemStack) {
+        ItemStackKey lookupKey = ItemStackKey.lookupKey.get();
+        lookupKey.itemStack = itemStack;
+        lookupKey.hashCode = computeHashCode(itemStack);
+        try {
+            synchronized (canonicalKeys) {
+                WeakReference<ItemStackKey> keyReference = canonicalKeys.get(lookupKey);
+                ItemStackKey canonicalKey = keyReference == null ? null : keyReference.get();
+                if (canonicalKey == null) {
+                    canonicalKey = new ItemStackKey(itemStack);
+                    canonicalKey.canonical = true;
+                    canonicalKeys.put(canonicalKey, new WeakReference<>(canonicalKey));
+                }
+                return canonicalKey;
+            }
+        } finally {
+            lookupKey.itemStack = ItemStack.EMPTY;
+        }
+    }
+
+    private static int computeHashCode(ItemStack itemStack) {
+        int hashCode = itemStack.getItem().hashCode();
+        hashCode = 31 * hashCode + GTUtility.getActualItemDamageFromStack(itemStack);
+        NBTTagCompound tagCompound = itemStack.getTagCompound();
+        return 31 * hashCode + (tagCompound == null ? 0 : tagCompound.hashCode());
     }
 
     public boolean isItemStackEqual(ItemStack itemStack) {
@@ -28,6 +78,9 @@ public final class ItemStackKey {
         return itemStack.copy();
     }
 
+    /**
+     * @return stack held by this key, it must not be modified
+     */
     public ItemStack getItemStackRaw() {
         return itemStack;
     }
@@ -37,15 +90,16 @@ public final class ItemStackKey {
         if (this == o) return true;
         if (!(o instanceof ItemStackKey)) return false;
         ItemStackKey that = (ItemStackKey) o;
-        return ItemStack.areItemsEqual(itemStack, that.itemStack) &&
+        //different canonical keys always hold different item types
+        if (canonical && that.canonical) return false;
+        return hashCode == that.hashCode &&
+            ItemStack.areItemsEqual(itemStack, that.itemStack) &&
             ItemStack.areItemStackTagsEqual(itemStack, that.itemStack);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(itemStack.getItem(),
-            GTUtility.getActualItemDamageFromStack(itemStack),
-            itemStack.getTagCompound());
+        return hashCode;
     }
 
     @Override
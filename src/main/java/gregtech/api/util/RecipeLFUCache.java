@@ -6,6 +6,10 @@ import net.minecraftforge.items.IItemHandlerModifiable;
 
 import java.util.*;
 
+/**
+ * @deprecated not used by GregTech machines any more, use {@link RecipeLRUCache}
+ */
+@Deprecated
 public class RecipeLFUCache {
     private final int capacity;
     private int cachedRecipeCount = 0;
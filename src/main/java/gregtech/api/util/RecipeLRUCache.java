@@ -1,27 +1,49 @@
 package gregtech.api.util;
 
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.recipes.CountableIngredient;
 import gregtech.api.recipes.Recipe;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 
+/**
+ * Least recently used recipe cache keyed by a fingerprint of the input inventory.
+ * <p>
+ * Fingerprint only depends on item types (item + metadata) and fluid types present in inputs,
+ * not on their amounts or slot positions, so it stays the same while machine consumes its inputs.
+ * Lookup computes fingerprint, finds the single cached recipe for it and verifies it with
+ * {@link Recipe#matches}, so hit, promotion and eviction are all O(1).
+ */
 public class RecipeLRUCache {
+
     private final int capacity;
-    private Recipe lastAccessedRecipe;
-    private final LinkedList<Recipe> recipeCaches;
+    private final TLongObjectMap<CacheEntry> entries;
+    //most recently used entry is the head of the list, eviction happens at the tail
+    private CacheEntry head;
+    private CacheEntry tail;
+    private CacheEntry lastAccessedEntry;
     private int cacheHit = 0;
     private int cacheMiss = 0;
     private boolean isReadAscending = true;
 
     public RecipeLRUCache(int capacity) {
         this.capacity = capacity;
-        this.recipeCaches = new LinkedList<>();
+        this.entries = new TLongObjectHashMap<>(Math.max(capacity, 1));
+    }
+
+    public int getCapacity() {
+        return this.capacity;
     }
 
     public int getCachedRecipeCount() {
-        return this.recipeCaches.size();
+        return this.entries.size();
     }
 
     public int getCacheHit() {
@@ -32,59 +54,80 @@ public class RecipeLRUCache {
         return this.cacheMiss;
     }
 
+    /**
+     * @deprecated cached recipes are looked up by fingerprint, so read order doesn't affect lookups any more
+     */
+    @Deprecated
     public boolean getIsReadAscending() {
         return this.isReadAscending;
     }
 
+    /**
+     * @deprecated cached recipes are looked up by fingerprint, so read order doesn't affect lookups any more
+     */
+    @Deprecated
     public void setIsReadAscending(boolean isAscending) {
         this.isReadAscending = isAscending;
     }
 
+    /**
+     * @deprecated cached recipes are looked up by fingerprint, so read order doesn't affect lookups any more
+     */
+    @Deprecated
     public boolean toggleIsReadAscending() {
         setIsReadAscending(!this.isReadAscending);
         return this.isReadAscending;
     }
 
+    public void resetStatistics() {
+        this.cacheHit = 0;
+        this.cacheMiss = 0;
+    }
+
     public void clear() {
         this.cacheHit = 0;
         this.cacheMiss = 0;
-        this.lastAccessedRecipe = null;
-        this.recipeCaches.clear();
+        this.lastAccessedEntry = null;
+        this.head = null;
+        this.tail = null;
+        this.entries.clear();
     }
 
     public Recipe get(IItemHandlerModifiable inputItems, IMultipleTankHandler inputFluids) {
-        if (!this.isReadAscending) {
-            return getReverse(inputItems, inputFluids);
-        }
-        for (Recipe recipeCache : this.recipeCaches) {
-            boolean foundMatches = recipeCache.matches(false, inputItems, inputFluids);
-            if (foundMatches) {
-                this.lastAccessedRecipe = recipeCache;
-                return recipeCache;
-            }
-        }
-        return null;
+        return get(Long.MAX_VALUE, inputItems, inputFluids);
     }
 
+    /**
+     * @deprecated cached recipes are looked up by fingerprint, so read order doesn't matter, use {@link #get}
+     */
+    @Deprecated
     public Recipe getReverse(IItemHandlerModifiable inputItems, IMultipleTankHandler inputFluids) {
-        Iterator<Recipe> recipeCachesIterator = this.recipeCaches.descendingIterator();
-        while (recipeCachesIterator.hasNext()) {
-            Recipe recipeCache = recipeCachesIterator.next();
-            boolean foundMatches = recipeCache.matches(false, inputItems, inputFluids);
-            if (foundMatches) {
-                this.lastAccessedRecipe = recipeCache;
-                return recipeCache;
-            }
+        return get(inputItems, inputFluids);
+    }
+
+    /**
+     * @return cached recipe for inputs with same fingerprint if it still matches
+     * given inputs and doesn't require more than given voltage, null otherwise
+     */
+    public Recipe get(long voltage, IItemHandlerModifiable inputItems, IMultipleTankHandler inputFluids) {
+        this.lastAccessedEntry = null;
+        if (entries.isEmpty()) {
+            return null;
+        }
+        CacheEntry entry = entries.get(fingerprint(inputItems, inputFluids));
+        if (entry == null || entry.recipe.getEUt() > voltage ||
+                !entry.recipe.matches(false, inputItems, inputFluids)) {
+            return null;
         }
-        return null;
+        this.lastAccessedEntry = entry;
+        return entry.recipe;
     }
 
     public int cacheUtilized() {
-        if (this.lastAccessedRecipe == null) {
+        if (this.lastAccessedEntry == null) {
             return this.cacheHit;
         }
-        this.recipeCaches.remove(this.lastAccessedRecipe);
-        this.recipeCaches.addFirst(this.lastAccessedRecipe);
+        moveToHead(this.lastAccessedEntry);
         this.cacheHit++;
         return this.cacheHit;
     }
@@ -94,15 +137,184 @@ public class RecipeLRUCache {
         return this.cacheMiss;
     }
 
+    public void put(IItemHandlerModifiable inputItems, IMultipleTankHandler inputFluids, Recipe value) {
+        put(fingerprint(inputItems, inputFluids), value);
+    }
+
+    /**
+     * @deprecated recipes are cached for inputs they were found for, use {@link #put(IItemHandlerModifiable, IMultipleTankHandler, Recipe)}.
+     * Recipe cached this way is keyed by first matching stack of every recipe input,
+     * so it's only found for inputs containing exactly these item and fluid types
+     */
+    @Deprecated
     public void put(Recipe value) {
+        long itemHash = 0L;
+        List<CountableIngredient> inputs = value.getInputs();
+        for (int i = 0; i < inputs.size(); i++) {
+            ItemStack[] matchingStacks = inputs.get(i).getIngredient().getMatchingStacks();
+            if (matchingStacks.length > 0 && !containsItemType(inputs, i, matchingStacks[0])) {
+                itemHash += hashItem(matchingStacks[0]);
+            }
+        }
+        long fluidHash = 0L;
+        List<FluidStack> fluidInputs = value.getFluidInputs();
+        for (int i = 0; i < fluidInputs.size(); i++) {
+            if (!containsFluidType(fluidInputs, i, fluidInputs.get(i))) {
+                fluidHash += hashFluid(fluidInputs.get(i));
+            }
+        }
+        put(mix(itemHash) ^ fluidHash, value);
+    }
+
+    private static boolean containsItemType(List<CountableIngredient> inputs, int count, ItemStack itemStack) {
+        for (int i = 0; i < count; i++) {
+            ItemStack[] matchingStacks = inputs.get(i).getIngredient().getMatchingStacks();
+            if (matchingStacks.length > 0 && isSameItemType(matchingStacks[0], itemStack)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsFluidType(List<FluidStack> fluidInputs, int count, FluidStack fluidStack) {
+        for (int i = 0; i < count; i++) {
+            if (fluidInputs.get(i).getFluid() == fluidStack.getFluid()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void put(long key, Recipe value) {
         if (capacity <= 0) {
             return;
         }
+        CacheEntry entry = entries.get(key);
+        if (entry != null) {
+            entry.recipe = value;
+            moveToHead(entry);
+            return;
+        }
+        if (entries.size() >= capacity) {
+            CacheEntry eldest = this.tail;
+            unlink(eldest);
+            entries.remove(eldest.key);
+            if (eldest == lastAccessedEntry) {
+                this.lastAccessedEntry = null;
+            }
+        }
+        entry = new CacheEntry(key, value);
+        entries.put(key, entry);
+        linkAtHead(entry);
+    }
 
-        if (this.recipeCaches.size() >= this.capacity) {
-            this.recipeCaches.removeLast();
+    /**
+     * Computes fingerprint of inputs which depends only on set of item and fluid types they contain,
+     * independent of stack sizes, slot order and amount of slots holding same type. Doesn't allocate
+     */
+    public static long fingerprint(IItemHandler inputItems, IMultipleTankHandler inputFluids) {
+        long itemHash = 0L;
+        for (int i = 0; i < inputItems.getSlots(); i++) {
+            ItemStack itemStack = inputItems.getStackInSlot(i);
+            if (itemStack.isEmpty() || containsItemType(inputItems, i, itemStack)) continue;
+            itemHash += hashItem(itemStack);
         }
+        long fluidHash = 0L;
+        for (int i = 0; i < inputFluids.getTanks(); i++) {
+            FluidStack fluidStack = inputFluids.getTankAt(i).getFluid();
+            if (fluidStack == null || containsFluidType(inputFluids, i, fluidStack)) continue;
+            fluidHash += hashFluid(fluidStack);
+        }
+        return mix(itemHash) ^ fluidHash;
+    }
 
-        this.recipeCaches.addFirst(value);
+    //types spread over several slots are only counted in the first of them
+    private static boolean containsItemType(IItemHandler inputItems, int slotCount, ItemStack itemStack) {
+        for (int i = 0; i < slotCount; i++) {
+            if (isSameItemType(inputItems.getStackInSlot(i), itemStack)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsFluidType(IMultipleTankHandler inputFluids, int tankCount, FluidStack fluidStack) {
+        for (int i = 0; i < tankCount; i++) {
+            FluidStack otherStack = inputFluids.getTankAt(i).getFluid();
+            if (otherStack != null && otherStack.getFluid() == fluidStack.getFluid()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSameItemType(ItemStack first, ItemStack second) {
+        return !first.isEmpty() && first.getItem() == second.getItem() && first.getMetadata() == second.getMetadata();
+    }
+
+    private static long hashItem(ItemStack itemStack) {
+        return mix(((long) Item.getIdFromItem(itemStack.getItem()) << 16) ^ itemStack.getMetadata());
+    }
+
+    private static long hashFluid(FluidStack fluidStack) {
+        return mix(fluidStack.getFluid().getName().hashCode());
+    }
+
+    private static long mix(long value) {
+        //finalizer of murmur3 hash, spreads close values over all bits
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private void moveToHead(CacheEntry entry) {
+        if (entry == head) {
+            return;
+        }
+        unlink(entry);
+        linkAtHead(entry);
+    }
+
+    private void linkAtHead(CacheEntry entry) {
+        entry.previous = null;
+        entry.next = head;
+        if (head != null) {
+            head.previous = entry;
+        }
+        this.head = entry;
+        if (tail == null) {
+            this.tail = entry;
+        }
+    }
+
+    private void unlink(CacheEntry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            this.head = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        } else {
+            this.tail = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    private static class CacheEntry {
+
+        private final long key;
+        private Recipe recipe;
+        private CacheEntry previous;
+        private CacheEntry next;
+
+        private CacheEntry(long key, Recipe recipe) {
+            this.key = key;
+            this.recipe = recipe;
+        }
     }
 }
@@ -0,0 +1,24 @@
+package gregtech.api.util;
+
+/**
+ * Priority classes of tasks run by {@link TaskScheduler}
+ */
+public enum TaskPriority {
+
+    /**
+     * Runs every tick regardless of scheduler time budget.
+     * Meant for cheap tasks which have to run promptly, and for tasks limiting their own time per tick
+     */
+    HIGH,
+
+    /**
+     * Runs within scheduler time budget of the tick
+     */
+    NORMAL,
+
+    /**
+     * Runs within scheduler time budget left after all normal priority tasks of the tick ran
+     */
+    LOW
+
+}
@@ -2,6 +2,8 @@ package gregtech.api.util;
 
 import gregtech.api.GTValues;
 import gregtech.api.util.function.Task;
+import gregtech.common.ConfigHolder;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.world.World;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -9,18 +11,63 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Runs deferred server tasks at the end of world ticks
+ * <p>
+ * Tasks are kept in separate queue for every world and priority class, see {@link TaskPriority}.
+ * Tasks of normal and low priority share time budget of the world tick, tasks which didn't fit into it
+ * keep their place in the queue and run first on the next tick. Time used over the budget is taken
+ * from budget of the next tick, so one slow task can't make scheduler overrun budget on every tick.
+ * Run counters are collected for every task type and can be viewed with /gregtech scheduler command
+ */
 @EventBusSubscriber(modid = GTValues.MODID)
 public class TaskScheduler {
 
-    private static Map<World, List<Task>> tasksPerWorld = new HashMap<>();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private static Map<World, WorldTaskQueue> tasksPerWorld = new HashMap<>();
+    private static Map<Class<?>, TaskStatistics> taskStatistics = new Reference2ObjectOpenHashMap<>();
 
     public static void scheduleTask(World world, Task task) {
+        scheduleTask(world, task, TaskPriority.NORMAL);
+    }
+
+    public static void scheduleTask(World world, Task task, TaskPriority priority) {
         if(world.isRemote) {
            throw new IllegalArgumentException("Attempt to schedule task on client world!");
         }
-        List<Task> taskList = tasksPerWorld.computeIfAbsent(world, k -> new ArrayList<>());
-        taskList.add(task);
+        WorldTaskQueue taskQueue = tasksPerWorld.computeIfAbsent(world, k -> new WorldTaskQueue());
+        taskQueue.getTasks(priority).add(task);
+    }
+
+    /**
+     * @return amount of tasks with given priority waiting to run in given world
+     */
+    public static int getPendingTasks(World world, TaskPriority priority) {
+        WorldTaskQueue taskQueue = tasksPerWorld.get(world);
+        return taskQueue == null ? 0 : taskQueue.getTasks(priority).size();
+    }
+
+    /**
+     * @return time in nanoseconds used over the budget in given world, which will be taken from budget of the next tick
+     */
+    public static long getBudgetOverrun(World world) {
+        WorldTaskQueue taskQueue = tasksPerWorld.get(world);
+        return taskQueue == null ? 0L : -taskQueue.carriedTime;
+    }
+
+    public static Collection<TaskStatistics> getTaskStatistics() {
+        return Collections.unmodifiableCollection(taskStatistics.values());
+    }
+
+    public static void resetTaskStatistics() {
+        taskStatistics.clear();
+    }
+
+    private static TaskStatistics getStatistics(Task task) {
+        return taskStatistics.computeIfAbsent(task.getClass(), TaskStatistics::new);
     }
 
     @SubscribeEvent
@@ -32,9 +79,81 @@ public class TaskScheduler {
 
     @SubscribeEvent
     public static void onWorldTick(TickEvent.WorldTickEvent event) {
-        if(!event.world.isRemote) {
-            List<Task> taskList = tasksPerWorld.getOrDefault(event.world, Collections.emptyList());
-            taskList.removeIf(task -> !task.run());
+        if(!event.world.isRemote && event.phase == TickEvent.Phase.END) {
+            WorldTaskQueue taskQueue = tasksPerWorld.get(event.world);
+            if (taskQueue != null) {
+                taskQueue.runTasks();
+            }
+        }
+    }
+
+    private static class WorldTaskQueue {
+
+        private final List<Deque<Task>> tasks = new ArrayList<>();
+        //time used over budget by previous ticks, always in range [-tickBudget, 0]
+        private long carriedTime;
+
+        private WorldTaskQueue() {
+            for (int i = 0; i < PRIORITIES.length; i++) {
+                tasks.add(new ArrayDeque<>());
+            }
+        }
+
+        private Deque<Task> getTasks(TaskPriority priority) {
+            return tasks.get(priority.ordinal());
+        }
+
+        private void runTasks() {
+            runTasks(getTasks(TaskPriority.HIGH), Long.MAX_VALUE);
+            long tickBudget = TimeUnit.MICROSECONDS.toNanos(ConfigHolder.taskSchedulerTickBudget);
+            long availableTime = tickBudget + carriedTime;
+            if (availableTime <= 0L) {
+                //previous ticks used whole budget of this one
+                this.carriedTime = 0L;
+                deferTasks(getTasks(TaskPriority.NORMAL), Integer.MAX_VALUE);
+                deferTasks(getTasks(TaskPriority.LOW), Integer.MAX_VALUE);
+                return;
+            }
+            long deadline = System.nanoTime() + availableTime;
+            if (!runTasks(getTasks(TaskPriority.NORMAL), deadline)) {
+                deferTasks(getTasks(TaskPriority.LOW), Integer.MAX_VALUE);
+            } else {
+                runTasks(getTasks(TaskPriority.LOW), deadline);
+            }
+            long remainingTime = deadline - System.nanoTime();
+            this.carriedTime = Math.max(-tickBudget, Math.min(0L, remainingTime));
+        }
+
+        /**
+         * Runs tasks queued before this tick in order until deadline is reached.
+         * Unfinished tasks are moved to the end of the queue
+         *
+         * @return false if deadline was reached before all tasks ran
+         */
+        private static boolean runTasks(Deque<Task> taskQueue, long deadline) {
+            //tasks scheduled by running tasks wait for the next tick
+            int taskCount = taskQueue.size();
+            for (int i = 0; i < taskCount; i++) {
+                long startTime = System.nanoTime();
+                if (startTime >= deadline) {
+                    deferTasks(taskQueue, taskCount - i);
+                    return false;
+                }
+                Task task = taskQueue.poll();
+                boolean keepRunning = task.run();
+                getStatistics(task).recordRun(System.nanoTime() - startTime, !keepRunning);
+                if (keepRunning) {
+                    taskQueue.add(task);
+                }
+            }
+            return true;
+        }
+
+        private static void deferTasks(Deque<Task> taskQueue, int taskCount) {
+            Iterator<Task> iterator = taskQueue.iterator();
+            for (int i = 0; i < taskCount && iterator.hasNext(); i++) {
+                getStatistics(iterator.next()).recordDeferredRun();
+            }
         }
     }
 }
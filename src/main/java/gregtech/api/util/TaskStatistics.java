@@ -0,0 +1,74 @@
+package gregtech.api.util;
+
+/**
+ * Run counters of all tasks of one type, collected by {@link TaskScheduler}
+ */
+public class TaskStatistics {
+
+    private final String taskName;
+    private long runs;
+    private long totalTime;
+    private long maxTime;
+    private long finishedTasks;
+    private long deferredRuns;
+
+    TaskStatistics(Class<?> taskClass) {
+        this.taskName = getTaskName(taskClass);
+    }
+
+    private static String getTaskName(Class<?> taskClass) {
+        String className = taskClass.getName();
+        //lambda classes are named after the class defining them
+        int lambdaIndex = className.indexOf("$$Lambda");
+        if (lambdaIndex != -1) {
+            return className.substring(className.lastIndexOf('.') + 1, lambdaIndex) + " (lambda)";
+        }
+        return taskClass.getSimpleName();
+    }
+
+    void recordRun(long time, boolean finished) {
+        this.runs++;
+        this.totalTime += time;
+        this.maxTime = Math.max(maxTime, time);
+        if (finished) {
+            this.finishedTasks++;
+        }
+    }
+
+    void recordDeferredRun() {
+        this.deferredRuns++;
+    }
+
+    public String getTaskName() {
+        return taskName;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    /**
+     * @return total time spent running tasks of this type, in nanoseconds
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * @return longest single run of task of this type, in nanoseconds
+     */
+    public long getMaxTime() {
+        return maxTime;
+    }
+
+    public long getFinishedTasks() {
+        return finishedTasks;
+    }
+
+    /**
+     * @return amount of times task of this type had to wait for next tick because time budget was used up
+     */
+    public long getDeferredRuns() {
+        return deferredRuns;
+    }
+}
@@ -19,13 +19,16 @@ import gregtech.api.worldgen.populator.VeinBufferPopulator;
 import gregtech.api.worldgen.populator.VeinChunkPopulator;
 import gregtech.api.worldgen.shape.IBlockGeneratorAccess;
 import gregtech.common.ConfigHolder;
+import gregtech.common.blocks.BlockOre;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockFalling;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
 import java.util.*;
 import java.util.Map.Entry;
@@ -36,18 +39,35 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     private static final Map<World, Cache<Long, CachedGridEntry>> gridEntryCache = new WeakHashMap<>();
 
     public static CachedGridEntry getOrCreateEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        return getOrCreateEntries(world, gridX, gridZ, gridX, gridZ, primerChunkX, primerChunkZ).get(0);
+    }
+
+    /**
+     * Returns entries of all grids in given range, ordered by grid x and then by grid z
+     * Veins of missing entries are planned concurrently by {@link GridEntryPlanner}
+     */
+    public static List<CachedGridEntry> getOrCreateEntries(World world, int minGridX, int minGridZ, int maxGridX, int maxGridZ, int primerChunkX, int primerChunkZ) {
         Cache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
         if (currentValue == null) {
             currentValue = createGridCache();
             gridEntryCache.put(world, currentValue);
         }
-        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
-        CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
-        if (gridEntry == null) {
-            gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
-            currentValue.put(gridEntryKey, gridEntry);
+        List<CachedGridEntry> gridEntries = new ArrayList<>();
+        List<CachedGridEntry> createdEntries = new ArrayList<>();
+        for (int gridX = minGridX; gridX <= maxGridX; gridX++) {
+            for (int gridZ = minGridZ; gridZ <= maxGridZ; gridZ++) {
+                Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+                CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
+                if (gridEntry == null) {
+                    gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
+                    currentValue.put(gridEntryKey, gridEntry);
+                    createdEntries.add(gridEntry);
+                }
+                gridEntries.add(gridEntry);
+            }
         }
-        return gridEntry;
+        GridEntryPlanner.planVeins(createdEntries);
+        return gridEntries;
     }
 
     private static Cache<Long, CachedGridEntry> createGridCache() {
@@ -66,11 +86,17 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         new BlockPos(15, 0, 15)
     };
 
-    private final Random gridRandom;
+    private final long gridSeed;
     private final int gridX;
     private final int gridZ;
-    private final List<Entry<Integer, OreDepositDefinition>> cachedDepositMap;
+    private final int primerChunkX;
+    private final int primerChunkZ;
+    private final List<Entry<Integer, OreDepositDefinition>> biomeDeposits;
+    private Random gridRandom;
+    private List<Entry<Integer, OreDepositDefinition>> cachedDepositMap;
     private GTWorldGenCapability masterEntry;
+    //set until first chunk is populated, since planned veins have to be checked against current world
+    private boolean awaitingFirstPopulation = true;
     private final int worldSeaLevel;
     private Map<OreDepositDefinition, BlockPos> veinGeneratedMap;
 
@@ -80,29 +106,51 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     public CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
         this.gridX = gridX;
         this.gridZ = gridZ;
+        this.primerChunkX = primerChunkX;
+        this.primerChunkZ = primerChunkZ;
         long worldSeed = world.getSeed();
-        this.gridRandom = new XSTR(31 * 31 * gridX + gridZ * 31 + Long.hashCode(worldSeed));
+        this.gridSeed = 31 * 31 * gridX + gridZ * 31 + Long.hashCode(worldSeed);
 
         int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X * 16;
         int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z * 16;
         BlockPos blockPos = new BlockPos(gridX * gridSizeX + gridSizeX / 2, world.getActualHeight(), gridZ * gridSizeZ + gridSizeZ / 2);
         Biome currentBiome = world.getBiomeProvider().getBiome(blockPos);
-        this.cachedDepositMap = new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
+        this.biomeDeposits = WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome);
 
         this.worldSeaLevel = world.getSeaLevel();
-        this.masterEntry = searchMasterOrNull(world);
+        //veins are planned with a copy, because master entry can be capability of chunk changed on server thread
+        this.masterEntry = new GTWorldGenCapability();
+        this.masterEntry.setFrom(findMasterEntry(world));
+    }
+
+    private GTWorldGenCapability findMasterEntry(World world) {
+        GTWorldGenCapability masterEntry = searchMasterOrNull(world);
         if (masterEntry == null) {
             Chunk primerChunk = world.getChunk(primerChunkX, primerChunkZ);
             BlockPos heightSpot = findOptimalSpot(gridX, gridZ, primerChunkX, primerChunkZ);
             heightSpot = heightSpot.add(primerChunkX * 16, 0, primerChunkZ * 16);
             int masterHeight = world.getHeight(heightSpot).getY();
             int masterBottomHeight = world.getTopSolidOrLiquidBlock(heightSpot).getY();
-            this.masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
-            this.masterEntry = new GTWorldGenCapability();
-            this.masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
+            masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
+            masterEntry = new GTWorldGenCapability();
+            masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
         }
+        return masterEntry;
+    }
 
-        triggerVeinsGeneration();
+    /**
+     * Populating chunks with other entries between creation of this entry and population of it's
+     * first chunk can change terrain or capabilities master entry is taken from, so it is looked up again
+     * at that point, and veins are planned again if their heights don't match anymore
+     */
+    private void checkPlannedMasterEntry(World world) {
+        GTWorldGenCapability currentMasterEntry = findMasterEntry(world);
+        boolean heightsMatch = currentMasterEntry.getMaxHeight() == masterEntry.getMaxHeight() &&
+            currentMasterEntry.getMaxBottomHeight() == masterEntry.getMaxBottomHeight();
+        this.masterEntry = currentMasterEntry;
+        if (!heightsMatch) {
+            triggerVeinsGeneration();
+        }
     }
 
     private BlockPos findOptimalSpot(int gridX, int gridZ, int chunkX, int chunkZ) {
@@ -169,6 +217,11 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     public boolean populateChunk(World world, int chunkX, int chunkZ, Random random) {
         long chunkId = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
         ChunkDataEntry chunkDataEntry = dataByChunkPos.get(chunkId);
+        if (awaitingFirstPopulation) {
+            this.awaitingFirstPopulation = false;
+            checkPlannedMasterEntry(world);
+            chunkDataEntry = dataByChunkPos.get(chunkId);
+        }
         GTWorldGenCapability capability = retrieveCapability(world, chunkX, chunkZ);
         capability.setFrom(masterEntry);
         if (chunkDataEntry != null && chunkDataEntry.populateChunk(world)) {
@@ -202,7 +255,14 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
         return world.getChunk(chunkX, chunkZ).getCapability(GTWorldGenCapability.CAPABILITY, null);
     }
 
+    /**
+     * Plans veins of this entry into block lists of chunks
+     * Only uses data captured from the world during creation, so it is safe to call from other threads
+     */
     public void triggerVeinsGeneration() {
+        this.gridRandom = new XSTR(gridSeed);
+        this.cachedDepositMap = new ArrayList<>(biomeDeposits);
+        this.dataByChunkPos.clear();
         this.veinGeneratedMap = new HashMap<>();
         if (!cachedDepositMap.isEmpty()) {
             int currentCycle = 0;
@@ -330,11 +390,13 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
 
         public boolean populateChunk(World world) {
             MutableBlockPos blockPos = new MutableBlockPos();
+            Chunk chunk = world.getChunk(chunkX, chunkZ);
+            ExtendedBlockStorage[] blockStorage = chunk.getBlockStorageArray();
             boolean generatedAnything = false;
+            boolean wroteDirectly = false;
             for (OreDepositDefinition definition : oreBlocks.keySet()) {
                 TLongList blockIndexList = oreBlocks.get(definition);
-                TLongSet generatedBlocks = new TLongHashSet();
-                boolean generatedOreVein = false;
+                TLongSet generatedBlocks = null;
                 for (int i = 0; i < blockIndexList.size(); i++) {
                     long blockIndex = blockIndexList.get(i);
                     int xyzValue = (int) (blockIndex >> 32);
@@ -343,7 +405,7 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
                     int blockY = (short) (xyzValue >> 16);
                     int index = (int) blockIndex;
                     blockPos.setPos(chunkX * 16 + blockX, blockY, chunkZ * 16 + blockZ);
-                    IBlockState currentState = world.getBlockState(blockPos);
+                    IBlockState currentState = chunk.getBlockState(blockPos);
                     IBlockState newState;
                     if (index == 0) {
                         //it's primary ore block
@@ -355,18 +417,50 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
                         VeinBufferPopulator populator = (VeinBufferPopulator) definition.getVeinPopulator();
                         newState = populator.getBlockByIndex(world, blockPos, index - 1);
                     }
-                    //set flags as 16 to avoid observer updates loading neighbour chunks
-                    world.setBlockState(blockPos, newState, 16);
+                    ExtendedBlockStorage storage = blockStorage[blockY >> 4];
+                    if (storage != Chunk.NULL_BLOCK_STORAGE && canSetBlockDirectly(currentState, newState)) {
+                        storage.set(blockX & 15, blockY & 15, blockZ & 15, newState);
+                        wroteDirectly = true;
+                    } else {
+                        //set flags as 16 to avoid observer updates loading neighbour chunks
+                        world.setBlockState(blockPos, newState, 16);
+                    }
+                    if (generatedBlocks == null) {
+                        generatedBlocks = new TLongHashSet();
+                    }
                     generatedBlocks.add(Block.getStateId(newState));
-                    generatedOreVein = true;
                     generatedAnything = true;
                 }
-                if (generatedOreVein) {
+                if (generatedBlocks != null) {
                     this.generatedBlocksSet.put(definition, generatedBlocks);
                     this.generatedOres.add(definition);
                 }
             }
+            if (wroteDirectly) {
+                chunk.markDirty();
+            }
             return generatedAnything;
         }
+
+        /**
+         * Blocks can be written straight into chunk section only if it doesn't change light or height map,
+         * doesn't involve tile entities and new block doesn't need to schedule updates when placed
+         */
+        private static boolean canSetBlockDirectly(IBlockState currentState, IBlockState newState) {
+            Block newBlock = newState.getBlock();
+            if (currentState.getBlock().hasTileEntity(currentState) || newBlock.hasTileEntity(newState)) {
+                return false;
+            }
+            if (currentState.getLightOpacity() != newState.getLightOpacity() ||
+                currentState.getLightValue() != newState.getLightValue() ||
+                newState.getMaterial().isLiquid()) {
+                return false;
+            }
+            if (newBlock instanceof BlockOre) {
+                //gravity affected ores schedule update when added, like regular falling blocks do
+                return !newState.getValue(((BlockOre) newBlock).STONE_TYPE).affectedByGravity;
+            }
+            return !(newBlock instanceof BlockFalling);
+        }
     }
 }
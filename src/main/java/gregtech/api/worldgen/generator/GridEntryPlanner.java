@@ -0,0 +1,53 @@
+package gregtech.api.worldgen.generator;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gregtech.common.ConfigHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plans ore veins of newly created {@link CachedGridEntry} instances on worker threads
+ * <p>
+ * Entries capture everything they need from the world on server thread when they are created,
+ * so planning doesn't touch the world and entries can be planned concurrently.
+ * Every entry uses it's own random, so results don't depend on the thread doing the planning
+ */
+public class GridEntryPlanner {
+
+    private static ExecutorService executorService;
+
+    /**
+     * Plans veins of all given entries and waits until all of them are finished
+     */
+    public static void planVeins(List<CachedGridEntry> gridEntries) {
+        if (gridEntries.size() <= 1 || ConfigHolder.oreVeinPlanningThreads == 0) {
+            gridEntries.forEach(CachedGridEntry::triggerVeinsGeneration);
+            return;
+        }
+        ExecutorService executorService = getExecutorService();
+        List<Future<?>> plannedEntries = new ArrayList<>();
+        for (int i = 1; i < gridEntries.size(); i++) {
+            plannedEntries.add(executorService.submit(gridEntries.get(i)::triggerVeinsGeneration));
+        }
+        //plan first entry on server thread instead of waiting idle for workers
+        gridEntries.get(0).triggerVeinsGeneration();
+        for (Future<?> plannedEntry : plannedEntries) {
+            Futures.getUnchecked(plannedEntry);
+        }
+    }
+
+    private static ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = Executors.newFixedThreadPool(ConfigHolder.oreVeinPlanningThreads, new ThreadFactoryBuilder()
+                .setNameFormat("GregTech Vein Planner #%d")
+                .setDaemon(true)
+                .build());
+        }
+        return executorService;
+    }
+}
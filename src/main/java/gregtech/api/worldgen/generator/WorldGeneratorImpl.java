@@ -24,6 +24,12 @@ public class WorldGeneratorImpl implements IWorldGenerator {
     public static final int GRID_SIZE_X = 3;
     public static final int GRID_SIZE_Z = 3;
 
+    //time spent in generation since last reset, in nanoseconds
+    private static long generateTime;
+    private static long gridEntryTime;
+    private static long populateTime;
+    private static long generatedChunks;
+
     @SubscribeEvent(priority = EventPriority.HIGH)
     public void onOreGenerate(OreGenEvent.GenerateMinable event) {
         EventType eventType = event.getType();
@@ -35,20 +41,59 @@ public class WorldGeneratorImpl implements IWorldGenerator {
 
     @Override
     public void generate(Random random, int chunkX, int chunkZ, World world, IChunkGenerator chunkGenerator, IChunkProvider chunkProvider) {
+        long startTime = System.nanoTime();
         int selfGridX = Math.floorDiv(chunkX, GRID_SIZE_X);
         int selfGridZ = Math.floorDiv(chunkZ, GRID_SIZE_Z);
         generateInternal(world, selfGridX, selfGridZ, chunkX, chunkZ, random);
+        generateTime += System.nanoTime() - startTime;
+        generatedChunks++;
     }
 
     private void generateInternal(World world, int selfGridX, int selfGridZ, int chunkX, int chunkZ, Random random) {
         int halfSizeX = (GRID_SIZE_X - 1) / 2;
         int halfSizeZ = (GRID_SIZE_Z - 1) / 2;
-        for (int gridX = -halfSizeX; gridX <= halfSizeX; gridX++) {
-            for (int gridZ = -halfSizeZ; gridZ <= halfSizeZ; gridZ++) {
-                CachedGridEntry cachedGridEntry = CachedGridEntry.getOrCreateEntry(world, selfGridX + gridX, selfGridZ + gridZ, chunkX, chunkZ);
-                cachedGridEntry.populateChunk(world, chunkX, chunkZ, random);
-            }
+        long startTime = System.nanoTime();
+        List<CachedGridEntry> gridEntries = CachedGridEntry.getOrCreateEntries(world,
+            selfGridX - halfSizeX, selfGridZ - halfSizeZ,
+            selfGridX + halfSizeX, selfGridZ + halfSizeZ, chunkX, chunkZ);
+        long populateStartTime = System.nanoTime();
+        gridEntryTime += populateStartTime - startTime;
+        for (CachedGridEntry cachedGridEntry : gridEntries) {
+            cachedGridEntry.populateChunk(world, chunkX, chunkZ, random);
         }
+        populateTime += System.nanoTime() - populateStartTime;
+    }
+
+    /**
+     * @return nanoseconds spent in {@link #generate} since last reset
+     */
+    public static long getGenerateTime() {
+        return generateTime;
+    }
+
+    /**
+     * @return nanoseconds spent creating and planning {@link CachedGridEntry} instances since last reset
+     */
+    public static long getGridEntryTime() {
+        return gridEntryTime;
+    }
+
+    /**
+     * @return nanoseconds spent populating chunks from grid entries since last reset
+     */
+    public static long getPopulateTime() {
+        return populateTime;
+    }
+
+    public static long getGeneratedChunks() {
+        return generatedChunks;
+    }
+
+    public static void resetStatistics() {
+        generateTime = 0L;
+        gridEntryTime = 0L;
+        populateTime = 0L;
+        generatedChunks = 0L;
     }
 
 }
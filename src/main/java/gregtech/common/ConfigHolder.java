@@ -33,6 +33,11 @@ public class ConfigHolder {
     @Config.Comment("Whether veins should be generated in center of chunk. Default: false")
     public static boolean generateVeinsInCenterOfChunk = false;
 
+    @Config.Comment("Amount of worker threads planning ore veins of new world sections. 0 plans them on server thread. Default: 2")
+    @Config.RangeInt(min = 0, max = 8)
+    @Config.RequiresMcRestart
+    public static int oreVeinPlanningThreads = 2;
+
     @Config.Comment("Whether to disable vanilla ores generation in world. Default: false")
     public static boolean disableVanillaOres = false;
 
@@ -114,6 +119,24 @@ public class ConfigHolder {
     @Config.RangeInt(min = 20, max = 1200)
     public static int structureCheckOffSetTimer = 20;
 
+    @Config.Comment("Whether formed multiblock structures should be checked again only when a block inside of them changes, instead of every structureCheckOffSetTimer ticks. They are still checked every 10 * structureCheckOffSetTimer ticks, in case some block change was not reported. Default: true")
+    public static boolean blockChangeDrivenStructureChecks = true;
+
+    @Config.Comment("Whether machines which don't need ticking, like chests without tickable covers, should be kept out of the world tick list. Default: true")
+    public static boolean nonTickingMachineHolders = true;
+
+    @Config.Comment("How often in ticks text displayed in machine GUIs, like multiblock controller status, is refreshed on server and sent to players. Default: 5")
+    @Config.RangeInt(min = 1, max = 100)
+    public static int guiTextUpdateInterval = 5;
+
+    @Config.Comment("How much time in microseconds deferred GregTech tasks of normal and low priority may use per world tick. Time used over it is taken from the next tick. Default: 10000")
+    @Config.RangeInt(min = 500, max = 50000)
+    public static int taskSchedulerTickBudget = 10000;
+
+    @Config.Comment("Max amount of recipe copies multiblock controllers can process in one operation, if inputs, output space and voltage allow it. Controllers use this limit unless lower one is chosen for them with screwdriver. 1 disables parallel processing. Default: 1")
+    @Config.RangeInt(min = 1, max = 256)
+    public static int multiblockParallelRecipeLimit = 1;
+
     @Config.Comment("Whether to use GCY tiers for overclocking or use CE's tiers")
     @Config.RequiresMcRestart
     public static boolean gregicalityOverclocking = false;
@@ -135,6 +158,25 @@ public class ConfigHolder {
     @Config.RequiresMcRestart
     public static int maxSleepTime = 0;
 
+    @Config.Comment("Whether machines with no recipe for their current inputs should wait for their input inventories to report a change instead of polling them. Default: true")
+    public static boolean notificationDrivenRecipeSearch = true;
+
+    @Config.Comment("How often in ticks machines waiting for an input change still poll their inputs, to catch changes made without notifying the inventory. Default: 100")
+    @Config.RangeInt(min = 20, max = 1200)
+    public static int idleRecipeRecheckInterval = 100;
+
+    @Config.Comment("Amount of recipes cached per recipe map and shared between all machines of that recipe map. 0 disables the shared cache. Default: 64")
+    @Config.RangeInt(min = 0, max = 4096)
+    @Config.RequiresMcRestart
+    public static int sharedRecipeCacheSize = 64;
+
+    @Config.Comment("Max amount of cable entries energy network route tables can hold for all sources of single network together. Routes of least recently used sources are dropped and computed again when needed. Default: 262144")
+    @Config.RangeInt(min = 4096, max = 4194304)
+    public static int energyNetRouteTableSize = 262144;
+
+    @Config.Comment("Whether cable networks should collect energy offered by all sources during the tick and distribute it once at the end of the tick, instead of dispatching every offer to consumers immediately. Default: false")
+    public static boolean energyNetSolver = false;
+
     public static class VanillaRecipes {
 
         @Config.Comment("Whether to nerf the paper crafting recipe. Default: true")
@@ -1,6 +1,8 @@
 package gregtech.common.command;
 
 import com.google.common.collect.Lists;
+import gregtech.common.command.recipe.CommandRecipeCache;
+import gregtech.common.command.scheduler.CommandTaskScheduler;
 import gregtech.common.command.util.CommandUtil;
 import gregtech.common.command.worldgen.CommandWorldgen;
 import net.minecraft.command.ICommandSender;
@@ -13,6 +15,8 @@ public class GregTechCommand extends CommandTreeBase {
     public GregTechCommand() {
         addSubcommand(new CommandWorldgen());
         addSubcommand(new CommandUtil());
+        addSubcommand(new CommandRecipeCache());
+        addSubcommand(new CommandTaskScheduler());
     }
 
     @Override
@@ -0,0 +1,79 @@
+package gregtech.common.command.recipe;
+
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.util.RecipeLRUCache;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+public class CommandRecipeCache extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "recipecache";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 2;
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.recipecache.usage";
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, "reset");
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws WrongUsageException {
+        if (args.length > 0) {
+            if (!args[0].equals("reset")) {
+                throw new WrongUsageException(getUsage(sender));
+            }
+            RecipeMap.getRecipeMaps().forEach(RecipeMap::resetCacheStatistics);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipecache.reset")
+                .setStyle(new Style().setColor(TextFormatting.GREEN)));
+            return;
+        }
+        boolean anyLookups = false;
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            long machineHits = recipeMap.getMachineCacheHits();
+            long machineMisses = recipeMap.getMachineCacheMisses();
+            //maps without shared cache only report their machine caches
+            RecipeLRUCache sharedRecipeCache = recipeMap.getSharedRecipeCacheIfCreated();
+            long sharedHits = sharedRecipeCache == null ? 0 : sharedRecipeCache.getCacheHit();
+            long sharedMisses = sharedRecipeCache == null ? 0 : sharedRecipeCache.getCacheMiss();
+            if (machineHits + machineMisses + sharedHits + sharedMisses == 0) continue;
+            anyLookups = true;
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipecache.entry",
+                recipeMap.getUnlocalizedName(),
+                machineHits, machineMisses, formatHitRate(machineHits, machineMisses),
+                sharedHits, sharedMisses, formatHitRate(sharedHits, sharedMisses),
+                sharedRecipeCache == null ? 0 : sharedRecipeCache.getCachedRecipeCount()));
+        }
+        if (!anyLookups) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipecache.empty"));
+        }
+    }
+
+    private static String formatHitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? "-" : String.format("%.1f%%", hits * 100.0 / total);
+    }
+}
@@ -0,0 +1,84 @@
+package gregtech.common.command.scheduler;
+
+import gregtech.api.util.TaskPriority;
+import gregtech.api.util.TaskScheduler;
+import gregtech.api.util.TaskStatistics;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.WorldServer;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+public class CommandTaskScheduler extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "scheduler";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 2;
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.scheduler.usage";
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, "reset");
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws WrongUsageException {
+        if (args.length > 0) {
+            if (!args[0].equals("reset")) {
+                throw new WrongUsageException(getUsage(sender));
+            }
+            TaskScheduler.resetTaskStatistics();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.scheduler.reset")
+                .setStyle(new Style().setColor(TextFormatting.GREEN)));
+            return;
+        }
+        for (WorldServer world : server.worlds) {
+            int highTasks = TaskScheduler.getPendingTasks(world, TaskPriority.HIGH);
+            int normalTasks = TaskScheduler.getPendingTasks(world, TaskPriority.NORMAL);
+            int lowTasks = TaskScheduler.getPendingTasks(world, TaskPriority.LOW);
+            if (highTasks + normalTasks + lowTasks == 0) continue;
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.scheduler.world",
+                world.provider.getDimension(), highTasks, normalTasks, lowTasks,
+                formatMillis(TaskScheduler.getBudgetOverrun(world))));
+        }
+        List<TaskStatistics> taskStatistics = new ArrayList<>(TaskScheduler.getTaskStatistics());
+        if (taskStatistics.isEmpty()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.scheduler.empty"));
+            return;
+        }
+        taskStatistics.sort(Comparator.comparingLong(TaskStatistics::getTotalTime).reversed());
+        for (TaskStatistics statistics : taskStatistics) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.scheduler.entry",
+                statistics.getTaskName(), statistics.getRuns(),
+                formatMillis(statistics.getTotalTime()), formatMillis(statistics.getMaxTime()),
+                statistics.getFinishedTasks(), statistics.getDeferredRuns()));
+        }
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f", nanos / 1.0e6);
+    }
+}
@@ -0,0 +1,66 @@
+package gregtech.common.command.worldgen;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+public class CommandWorldgenPregen extends CommandBase {
+
+    private static final int DEFAULT_MILLIS_PER_TICK = 25;
+
+    @Override
+    public String getName() {
+        return "pregen";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.worldgen.pregen.usage";
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, "stop");
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if (args.length == 0) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        if (args[0].equals("stop")) {
+            String messageKey = WorldPregenerator.stop() ? "gregtech.command.worldgen.pregen.stopped" : "gregtech.command.worldgen.pregen.not_running";
+            sender.sendMessage(new TextComponentTranslation(messageKey));
+            return;
+        }
+        int radius = parseInt(args[0], 0, 1000);
+        int millisPerTick = args.length > 1 ? parseInt(args[1], 1, 1000) : DEFAULT_MILLIS_PER_TICK;
+        World world = sender.getEntityWorld();
+        if (!(world instanceof WorldServer)) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        BlockPos centerPos = sender.getPosition();
+        if (!WorldPregenerator.start((WorldServer) world, sender, centerPos.getX() >> 4, centerPos.getZ() >> 4, radius, millisPerTick)) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.pregen.running")
+                .setStyle(new Style().setColor(TextFormatting.RED)));
+            return;
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.pregen.started", radius, millisPerTick)
+            .setStyle(new Style().setColor(TextFormatting.GREEN)));
+    }
+}
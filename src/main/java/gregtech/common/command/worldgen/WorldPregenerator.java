@@ -0,0 +1,161 @@
+package gregtech.common.command.worldgen;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.util.TaskPriority;
+import gregtech.api.util.TaskScheduler;
+import gregtech.api.util.function.Task;
+import gregtech.api.worldgen.generator.WorldGeneratorImpl;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.common.DimensionManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates square of chunks around center chunk row by row, spending at most given time per tick
+ * <p>
+ * Square is one chunk larger than requested radius, so all chunks inside of radius get populated.
+ * Rows that can't be touched by population anymore are queued for unloading unless players watch them,
+ * so amount of loaded chunks stays bounded by the width of the square
+ */
+public class WorldPregenerator implements Task {
+
+    private static final int REPORT_INTERVAL = 100;
+
+    private static WorldPregenerator activePregenerator;
+
+    private final WorldServer world;
+    private final ICommandSender sender;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+    private final long tickBudget;
+    private final long startTime;
+    private int currentChunkX;
+    private int currentChunkZ;
+    private int processedChunks;
+    private int newChunks;
+    private int ticksRunning;
+    private boolean stopped;
+
+    private WorldPregenerator(WorldServer world, ICommandSender sender, int centerChunkX, int centerChunkZ, int radius, long tickBudget) {
+        this.world = world;
+        this.sender = sender;
+        this.minChunkX = centerChunkX - radius - 1;
+        this.minChunkZ = centerChunkZ - radius - 1;
+        this.maxChunkX = centerChunkX + radius + 1;
+        this.maxChunkZ = centerChunkZ + radius + 1;
+        this.tickBudget = tickBudget;
+        this.startTime = System.nanoTime();
+        this.currentChunkX = minChunkX;
+        this.currentChunkZ = minChunkZ;
+    }
+
+    /**
+     * @return false if other pregeneration is still running
+     */
+    public static boolean start(WorldServer world, ICommandSender sender, int centerChunkX, int centerChunkZ, int radius, int millisPerTick) {
+        //task is dropped silently when it's world unloads
+        if (activePregenerator != null && DimensionManager.getWorld(activePregenerator.world.provider.getDimension()) == activePregenerator.world) {
+            return false;
+        }
+        WorldGeneratorImpl.resetStatistics();
+        activePregenerator = new WorldPregenerator(world, sender, centerChunkX, centerChunkZ, radius, TimeUnit.MILLISECONDS.toNanos(millisPerTick));
+        //pregenerator keeps to it's own time per tick, so it doesn't take budget of other tasks
+        TaskScheduler.scheduleTask(world, activePregenerator, TaskPriority.HIGH);
+        return true;
+    }
+
+    /**
+     * @return false if there was no pregeneration running
+     */
+    public static boolean stop() {
+        if (activePregenerator == null) {
+            return false;
+        }
+        activePregenerator.stopped = true;
+        activePregenerator = null;
+        return true;
+    }
+
+    private int getTotalChunks() {
+        return (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+    }
+
+    @Override
+    public boolean run() {
+        if (stopped) {
+            return false;
+        }
+        ChunkProviderServer chunkProvider = world.getChunkProvider();
+        long tickStartTime = System.nanoTime();
+        while (currentChunkZ <= maxChunkZ && System.nanoTime() - tickStartTime < tickBudget) {
+            if (!world.isChunkGeneratedAt(currentChunkX, currentChunkZ)) {
+                this.newChunks++;
+            }
+            chunkProvider.provideChunk(currentChunkX, currentChunkZ);
+            this.processedChunks++;
+            if (++currentChunkX > maxChunkX) {
+                //completing this row finished population of previous one, so row before it isn't needed anymore
+                queueRowUnload(chunkProvider, currentChunkZ - 2);
+                this.currentChunkX = minChunkX;
+                this.currentChunkZ++;
+            }
+        }
+        if (currentChunkZ > maxChunkZ) {
+            queueRowUnload(chunkProvider, maxChunkZ - 1);
+            queueRowUnload(chunkProvider, maxChunkZ);
+            reportFinished();
+            activePregenerator = null;
+            return false;
+        }
+        if (++ticksRunning % REPORT_INTERVAL == 0) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.pregen.progress",
+                processedChunks, getTotalChunks(), formatRate(processedChunks, System.nanoTime() - startTime)));
+        }
+        return true;
+    }
+
+    private void queueRowUnload(ChunkProviderServer chunkProvider, int chunkZ) {
+        if (chunkZ < minChunkZ) {
+            return;
+        }
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            Chunk chunk = chunkProvider.getLoadedChunk(chunkX, chunkZ);
+            if (chunk != null && !world.getPlayerChunkMap().contains(chunkX, chunkZ)) {
+                chunkProvider.queueUnload(chunk);
+            }
+        }
+    }
+
+    private void reportFinished() {
+        long totalTime = System.nanoTime() - startTime;
+        String totalSeconds = String.format("%.1f", totalTime / 1.0e9);
+        String chunksPerSecond = formatRate(processedChunks, totalTime);
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.pregen.finished",
+            processedChunks, totalSeconds, chunksPerSecond, newChunks));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.pregen.timings",
+            formatMillis(WorldGeneratorImpl.getGenerateTime()),
+            formatMillis(WorldGeneratorImpl.getGridEntryTime()),
+            formatMillis(WorldGeneratorImpl.getPopulateTime()),
+            WorldGeneratorImpl.getGeneratedChunks()));
+        GTLog.logger.info("Pregenerated {} chunks in {} s ({} chunks/s), {} new. Ore generation: {} ms total, {} ms in grid entries, {} ms populating {} chunks",
+            processedChunks, totalSeconds, chunksPerSecond, newChunks,
+            formatMillis(WorldGeneratorImpl.getGenerateTime()),
+            formatMillis(WorldGeneratorImpl.getGridEntryTime()),
+            formatMillis(WorldGeneratorImpl.getPopulateTime()),
+            WorldGeneratorImpl.getGeneratedChunks());
+    }
+
+    private static String formatRate(int chunks, long nanos) {
+        return nanos == 0L ? "-" : String.format("%.1f", chunks * 1.0e9 / nanos);
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.1f", nanos / 1.0e6);
+    }
+}
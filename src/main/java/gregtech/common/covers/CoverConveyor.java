@@ -316,7 +316,7 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
             if (transferSlotIndex == null) {
                 continue;
             }
-            ItemStackKey itemStackKey = new ItemStackKey(itemStack);
+            ItemStackKey itemStackKey = ItemStackKey.of(itemStack);
             if(!result.containsKey(itemStackKey)) {
                 TypeItemInfo itemInfo = new TypeItemInfo(itemStack.copy(), transferSlotIndex, new TIntArrayList(), 0);
                 itemInfo.totalCount += itemStack.getCount();
@@ -342,7 +342,7 @@ public class CoverConveyor extends CoverBehavior implements CoverWithUI, ITickab
             if (transferSlotIndex == null) {
                 continue;
             }
-            ItemStackKey itemStackKey = new ItemStackKey(itemStack);
+            ItemStackKey itemStackKey = ItemStackKey.of(itemStack);
             if(!result.containsKey(transferSlotIndex)) {
                 GroupItemInfo itemInfo = new GroupItemInfo(transferSlotIndex, new HashSet<>(), 0);
                 itemInfo.itemStackTypes.add(itemStackKey);
@@ -0,0 +1,177 @@
+package gregtech.common.covers.filter;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Ore dictionary filter expression compiled into matcher of ore dictionary names
+ * <p>
+ * Expression consists of ore dictionary names, which can contain * wildcards matching any sequence of characters,
+ * combined with | (or), &amp; (and), ! (not) operators and grouped with parentheses.
+ * Operator precedence is !, then &amp;, then |, so "ingot*&amp;!*Iron|dustGold" means "(ingot* and not *Iron) or dustGold"
+ */
+public final class OreDictionaryExpression {
+
+    private static final OreDictionaryExpression EMPTY = new OreDictionaryExpression("", oreNames -> null);
+
+    private final String expression;
+    private final Function<Collection<String>, String> matcher;
+
+    private OreDictionaryExpression(String expression, Function<Collection<String>, String> matcher) {
+        this.expression = expression;
+        this.matcher = matcher;
+    }
+
+    /**
+     * Compiles given filter expression. Empty or malformed expressions don't match anything
+     */
+    public static OreDictionaryExpression compile(String expression) {
+        if (expression.trim().isEmpty()) {
+            return EMPTY;
+        }
+        Parser parser = new Parser(expression);
+        Function<Collection<String>, String> matcher = parser.parseExpression();
+        if (matcher == null || !parser.isFinished()) {
+            return new OreDictionaryExpression(expression, EMPTY.matcher);
+        }
+        return new OreDictionaryExpression(expression, matcher);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return ore dictionary name which satisfied expression, or expression itself
+     * if it was satisfied without any name (by negation), null if expression doesn't match given names
+     */
+    @Nullable
+    public String match(Collection<String> oreNames) {
+        return matcher.apply(oreNames);
+    }
+
+    private static boolean matchesWildcard(String[] parts, String oreName) {
+        //parts are split around wildcards, so first and last parts are anchored to start and end
+        if (parts.length == 1) {
+            return oreName.equals(parts[0]);
+        }
+        String lastPart = parts[parts.length - 1];
+        if (!oreName.startsWith(parts[0]) || !oreName.endsWith(lastPart) ||
+            oreName.length() < parts[0].length() + lastPart.length()) {
+            return false;
+        }
+        int position = parts[0].length();
+        int endPosition = oreName.length() - lastPart.length();
+        for (int i = 1; i < parts.length - 1; i++) {
+            int partIndex = oreName.indexOf(parts[i], position);
+            if (partIndex == -1 || partIndex + parts[i].length() > endPosition) {
+                return false;
+            }
+            position = partIndex + parts[i].length();
+        }
+        return true;
+    }
+
+    /**
+     * Recursive descent parser of filter expressions, returns null from parse methods on malformed input
+     */
+    private static class Parser {
+
+        private final String expression;
+        private int position;
+
+        private Parser(String expression) {
+            this.expression = expression;
+        }
+
+        private boolean isFinished() {
+            skipWhitespace();
+            return position == expression.length();
+        }
+
+        private boolean consume(char character) {
+            skipWhitespace();
+            if (position < expression.length() && expression.charAt(position) == character) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                this.position++;
+            }
+        }
+
+        @Nullable
+        private Function<Collection<String>, String> parseExpression() {
+            Function<Collection<String>, String> result = parseConjunction();
+            while (result != null && consume('|')) {
+                Function<Collection<String>, String> left = result;
+                Function<Collection<String>, String> right = parseConjunction();
+                if (right == null) return null;
+                result = oreNames -> {
+                    String match = left.apply(oreNames);
+                    return match != null ? match : right.apply(oreNames);
+                };
+            }
+            return result;
+        }
+
+        @Nullable
+        private Function<Collection<String>, String> parseConjunction() {
+            Function<Collection<String>, String> result = parseUnary();
+            while (result != null && consume('&')) {
+                Function<Collection<String>, String> left = result;
+                Function<Collection<String>, String> right = parseUnary();
+                if (right == null) return null;
+                result = oreNames -> {
+                    String match = left.apply(oreNames);
+                    return match != null && right.apply(oreNames) != null ? match : null;
+                };
+            }
+            return result;
+        }
+
+        @Nullable
+        private Function<Collection<String>, String> parseUnary() {
+            if (consume('!')) {
+                Function<Collection<String>, String> operand = parseUnary();
+                if (operand == null) return null;
+                return oreNames -> operand.apply(oreNames) == null ? expression : null;
+            }
+            if (consume('(')) {
+                Function<Collection<String>, String> operand = parseExpression();
+                return operand != null && consume(')') ? operand : null;
+            }
+            return parseName();
+        }
+
+        @Nullable
+        private Function<Collection<String>, String> parseName() {
+            skipWhitespace();
+            int startPosition = position;
+            while (position < expression.length() && isNameCharacter(expression.charAt(position))) {
+                this.position++;
+            }
+            if (startPosition == position) {
+                return null;
+            }
+            String[] parts = expression.substring(startPosition, position).split("\\*", -1);
+            return oreNames -> {
+                for (String oreName : oreNames) {
+                    if (matchesWildcard(parts, oreName)) {
+                        return oreName;
+                    }
+                }
+                return null;
+            };
+        }
+
+        private static boolean isNameCharacter(char character) {
+            return character == '*' || character == '_' || Character.isLetterOrDigit(character);
+        }
+    }
+}
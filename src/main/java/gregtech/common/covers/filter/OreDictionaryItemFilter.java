@@ -4,7 +4,10 @@ import gregtech.api.gui.Widget;
 import gregtech.api.gui.widgets.LabelWidget;
 import gregtech.api.gui.widgets.TextFieldWidget;
 import gregtech.api.unification.OreDictUnifier;
+import gregtech.api.util.GTUtility;
 import gregtech.api.util.ItemStackKey;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 
@@ -14,15 +17,28 @@ import java.util.regex.Pattern;
 
 public class OreDictionaryItemFilter extends ItemFilter {
 
-    private static final Pattern ORE_DICTIONARY_FILTER = Pattern.compile("\\*?[a-zA-Z0-9_]*\\*?");
+    private static final Pattern ORE_DICTIONARY_FILTER = Pattern.compile("[a-zA-Z0-9_*|&!() ]*");
+    private static final int MAX_CACHED_ITEMS = 1024;
+    //stored in match cache for items not matching filter
+    private static final String NO_MATCH = "";
 
     protected String oreDictionaryFilter = "";
+    private OreDictionaryExpression compiledFilter = OreDictionaryExpression.compile("");
+    //match results by packed item id and metadata, see getMatchCacheKey
+    private final Long2ObjectOpenHashMap<String> matchCache = new Long2ObjectOpenHashMap<>();
+    private int matchCacheVersion;
 
     protected void setOreDictionaryFilter(String oreDictionaryFilter) {
         this.oreDictionaryFilter = oreDictionaryFilter;
+        recompileFilter();
         markDirty();
     }
 
+    private void recompileFilter() {
+        this.compiledFilter = OreDictionaryExpression.compile(oreDictionaryFilter);
+        this.matchCache.clear();
+    }
+
     public String getOreDictionaryFilter() {
         return oreDictionaryFilter;
     }
@@ -39,7 +55,31 @@ public class OreDictionaryItemFilter extends ItemFilter {
 
     @Override
     public Object matchItemStack(ItemStack itemStack) {
-        return matchesOreDictionaryFilter(getOreDictionaryFilter(), itemStack);
+        if (itemStack.isEmpty()) {
+            return null;
+        }
+        int registrationVersion = OreDictUnifier.getRegistrationVersion();
+        if (matchCacheVersion != registrationVersion || matchCache.size() >= MAX_CACHED_ITEMS) {
+            //ore names of items could change, or cache grew too large
+            this.matchCache.clear();
+            this.matchCacheVersion = registrationVersion;
+        }
+        long cacheKey = getMatchCacheKey(itemStack);
+        String match = matchCache.get(cacheKey);
+        if (match == null) {
+            match = compiledFilter.match(OreDictUnifier.getOreDictionaryNames(itemStack));
+            if (match == null) {
+                match = NO_MATCH;
+            }
+            matchCache.put(cacheKey, match);
+        }
+        return match == NO_MATCH ? null : match;
+    }
+
+    private static long getMatchCacheKey(ItemStack itemStack) {
+        //ore dictionary names depend only on item and metadata
+        long itemId = Item.getIdFromItem(itemStack.getItem());
+        return itemId << 32 | (GTUtility.getActualItemDamageFromStack(itemStack) & 0xFFFFFFFFL);
     }
 
     @Override
@@ -65,37 +105,19 @@ public class OreDictionaryItemFilter extends ItemFilter {
     @Override
     public void readFromNBT(NBTTagCompound tagCompound) {
         this.oreDictionaryFilter = tagCompound.getString("OreDictionaryFilter");
+        recompileFilter();
     }
 
+    /**
+     * Matches item stack against given filter expression, see {@link OreDictionaryExpression} for syntax.
+     * Expression is compiled on every call, so filters should keep compiled expression instead
+     *
+     * @return ore dictionary name which satisfied filter, or null if stack doesn't match it
+     */
     public static String matchesOreDictionaryFilter(String oreDictionaryFilter, ItemStack itemStack) {
-        if (oreDictionaryFilter.isEmpty()) {
+        if (itemStack.isEmpty()) {
             return null;
         }
-        boolean startWildcard = oreDictionaryFilter.charAt(0) == '*';
-        boolean endWildcard = oreDictionaryFilter.length() > 1 && oreDictionaryFilter.charAt(oreDictionaryFilter.length() - 1) == '*';
-        if (startWildcard) {
-            oreDictionaryFilter = oreDictionaryFilter.substring(1);
-        }
-        if (endWildcard) {
-            oreDictionaryFilter = oreDictionaryFilter.substring(0, oreDictionaryFilter.length() - 1);
-        }
-        for (String stackOreName : OreDictUnifier.getOreDictionaryNames(itemStack)) {
-            if (areOreDictNamesEqual(startWildcard, endWildcard, oreDictionaryFilter, stackOreName)) {
-                return stackOreName;
-            }
-        }
-        return null;
-    }
-
-    private static boolean areOreDictNamesEqual(boolean startWildcard, boolean endWildcard, String oreDictName, String stackOreName) {
-        if (startWildcard && endWildcard) {
-            return stackOreName.contains(oreDictName);
-        } else if (startWildcard) {
-            return stackOreName.endsWith(oreDictName);
-        } else if (endWildcard) {
-            return stackOreName.startsWith(oreDictName);
-        } else {
-            return stackOreName.equals(oreDictName);
-        }
+        return OreDictionaryExpression.compile(oreDictionaryFilter).match(OreDictUnifier.getOreDictionaryNames(itemStack));
     }
 }
@@ -172,7 +172,7 @@ public class ItemListSlotWidget extends Widget {
             try {
                 ItemStack itemStack = buffer.readItemStack();
                 int button = buffer.readVarInt();
-                IItemInfo itemInfo = itemStack.isEmpty() ? null : gridWidget.getItemList().getItemInfo(new ItemStackKey(itemStack));
+                IItemInfo itemInfo = itemStack.isEmpty() ? null : gridWidget.getItemList().getItemInfo(ItemStackKey.of(itemStack));
                 handleMouseClick(itemInfo, button, false);
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -180,7 +180,7 @@ public class ItemListSlotWidget extends Widget {
         } else if (id == 2) {
             try {
                 ItemStack itemStack = buffer.readItemStack();
-                IItemInfo itemInfo = gridWidget.getItemList().getItemInfo(new ItemStackKey(itemStack));
+                IItemInfo itemInfo = gridWidget.getItemList().getItemInfo(ItemStackKey.of(itemStack));
                 if (itemInfo != null) {
                     handleSelfShiftClick(itemInfo);
                 }
@@ -33,6 +33,10 @@ public abstract class ItemSource {
 
     @FunctionalInterface
     public interface StoredItemsChangeCallback {
+        /**
+         * @param itemAmount new amounts of items which amount has changed since last update
+         * @param removedItems items which are not stored in the inventory anymore
+         */
         void onStoredItemsUpdated(Map<ItemStackKey, Integer> itemAmount, Set<ItemStackKey> removedItems);
     }
 }
@@ -17,6 +17,8 @@ public class ItemSourceList implements IItemList, ITickable {
     protected final World world;
     protected final List<ItemSource> handlerInfoList = new CopyOnWriteArrayList<>();
     protected final Map<ItemStackKey, NetworkItemInfo> itemInfoMap = new LinkedHashMap<>();
+    //reverse index of items every source contributes into item info map
+    protected final Map<ItemSource, Set<ItemStackKey>> itemsBySource = new HashMap<>();
     private final Comparator<ItemSource> comparator = Comparator.comparing(ItemSource::getPriority);
     private final Set<ItemStackKey> storedItemsView = Collections.unmodifiableSet(itemInfoMap.keySet());
     protected Runnable itemListChangeCallback = null;
@@ -99,13 +101,19 @@ public class ItemSourceList implements IItemList, ITickable {
     }
 
     public boolean addItemHandler(ItemSource handlerInfo) {
-        if (!handlerInfoList.contains(handlerInfo)) {
+        if (!itemsBySource.containsKey(handlerInfo)) {
+            this.itemsBySource.put(handlerInfo, new HashSet<>());
             handlerInfo.setStoredItemsChangeCallback((storedItems, removedItems) -> updateStoredItems(handlerInfo, storedItems, removedItems));
-            if (handlerInfo.update() == UpdateResult.INVALID) return false;
+            if (handlerInfo.update() == UpdateResult.INVALID) {
+                handlerInfo.setStoredItemsChangeCallback(null);
+                removeSourceItems(handlerInfo);
+                return false;
+            }
             handlerInfo.setInvalidationCallback(() -> removeItemHandler(handlerInfo));
-            this.handlerInfoList.add(handlerInfo);
+            insertSorted(handlerInfo);
+            //source might not have recomputed it's items during update, so register all of them explicitly
+            updateStoredItems(handlerInfo, handlerInfo.getStoredItems(), Collections.emptySet());
             addItemHandlerPost(handlerInfo);
-            notifyPriorityUpdated();
             return true;
         }
         return false;
@@ -115,14 +123,46 @@ public class ItemSourceList implements IItemList, ITickable {
         if(this.handlerInfoList.remove(handlerInfo)) {
             handlerInfo.setStoredItemsChangeCallback(null);
             handlerInfo.setInvalidationCallback(null);
-            for (ItemStackKey itemStackKey : itemInfoMap.keySet()) {
-                NetworkItemInfo itemInfo = itemInfoMap.get(itemStackKey);
-                itemInfo.removeInventory(handlerInfo);
-            }
+            removeSourceItems(handlerInfo);
             removeItemHandlerPost(handlerInfo);
         }
     }
 
+    private void insertSorted(ItemSource handlerInfo) {
+        //insert after all sources with same priority, same as stable sort of appended source would
+        int index = 0;
+        while (index < handlerInfoList.size() && comparator.compare(handlerInfoList.get(index), handlerInfo) <= 0) {
+            index++;
+        }
+        this.handlerInfoList.add(index, handlerInfo);
+    }
+
+    private void removeSourceItems(ItemSource handlerInfo) {
+        Set<ItemStackKey> sourceItems = itemsBySource.remove(handlerInfo);
+        if (sourceItems == null) {
+            return;
+        }
+        boolean updatedItemAmount = false;
+        for (ItemStackKey itemStackKey : sourceItems) {
+            updatedItemAmount |= removeSourceItem(handlerInfo, itemStackKey);
+        }
+        if (updatedItemAmount) {
+            notifyItemListChanged();
+        }
+    }
+
+    private boolean removeSourceItem(ItemSource handlerInfo, ItemStackKey itemStackKey) {
+        NetworkItemInfo itemInfo = itemInfoMap.get(itemStackKey);
+        if (itemInfo == null) {
+            return false;
+        }
+        boolean updatedItemAmount = itemInfo.removeInventory(handlerInfo);
+        if (itemInfo.getTotalItemAmount() == 0) {
+            this.itemInfoMap.remove(itemStackKey);
+        }
+        return updatedItemAmount;
+    }
+
     protected void addItemHandlerPost(ItemSource handlerInfo) {
     }
 
@@ -130,8 +170,13 @@ public class ItemSourceList implements IItemList, ITickable {
     }
 
     void updateStoredItems(ItemSource handlerInfo, Map<ItemStackKey, Integer> itemAmount, Set<ItemStackKey> removedItems) {
+        Set<ItemStackKey> sourceItems = itemsBySource.get(handlerInfo);
+        if (sourceItems == null) {
+            return;
+        }
         boolean updatedItemAmount = false;
-        for (ItemStackKey itemStackKey : itemAmount.keySet()) {
+        for (Map.Entry<ItemStackKey, Integer> entry : itemAmount.entrySet()) {
+            ItemStackKey itemStackKey = entry.getKey();
             int extractedAmount = handlerInfo.extractItem(itemStackKey, 1, true);
             if (extractedAmount > 0) {
                 NetworkItemInfo itemInfo = itemInfoMap.get(itemStackKey);
@@ -139,19 +184,25 @@ public class ItemSourceList implements IItemList, ITickable {
                     itemInfo = new NetworkItemInfo(itemStackKey);
                     this.itemInfoMap.put(itemStackKey, itemInfo);
                 }
-                updatedItemAmount |= itemInfo.addInventory(handlerInfo, itemAmount.get(itemStackKey));
+                sourceItems.add(itemStackKey);
+                updatedItemAmount |= itemInfo.addInventory(handlerInfo, entry.getValue());
+            } else if (sourceItems.remove(itemStackKey)) {
+                //item can't be extracted from this source anymore
+                updatedItemAmount |= removeSourceItem(handlerInfo, itemStackKey);
             }
         }
         for (ItemStackKey removedItem : removedItems) {
-            NetworkItemInfo itemInfo = itemInfoMap.get(removedItem);
-            if (itemInfo != null) {
-                updatedItemAmount |= itemInfo.removeInventory(handlerInfo);
-                if (itemInfo.getTotalItemAmount() == 0) {
-                    this.itemInfoMap.remove(removedItem);
-                }
+            if (sourceItems.remove(removedItem)) {
+                updatedItemAmount |= removeSourceItem(handlerInfo, removedItem);
             }
         }
-        if (updatedItemAmount && itemListChangeCallback != null) {
+        if (updatedItemAmount) {
+            notifyItemListChanged();
+        }
+    }
+
+    private void notifyItemListChanged() {
+        if (itemListChangeCallback != null) {
             if (!disableCallback) {
                 itemListChangeCallback.run();
             } else {
@@ -12,6 +12,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public abstract class InventoryItemSource extends ItemSource {
 
@@ -20,7 +21,11 @@ public abstract class InventoryItemSource extends ItemSource {
     private Runnable invalidationCallback = null;
     private StoredItemsChangeCallback changeCallback = null;
     protected IItemHandler itemHandler = EmptyHandler.INSTANCE;
-    private Map<ItemStackKey, Integer> itemStackByAmountMap = new HashMap<>();
+    private final Map<ItemStackKey, Integer> itemStackByAmountMap = new HashMap<>();
+    //contents of every slot during last recompute, used to find slots which have changed since then
+    private ItemStackKey[] slotItems = new ItemStackKey[0];
+    private int[] slotAmounts = new int[0];
+    private final Set<ItemStackKey> changedItems = new HashSet<>();
     private long lastItemHandlerUpdateTick = -1L;
     private long lastStoredItemListUpdateTick = -1L;
     private boolean cachedRefreshResult = false;
@@ -151,23 +156,69 @@ public abstract class InventoryItemSource extends ItemSource {
             return false;
         }
         this.lastStoredItemListUpdateTick = world.getTotalWorldTime();
-        HashMap<ItemStackKey, Integer> amountMap = new HashMap<>();
-        for (int i = 0; i < itemHandler.getSlots(); i++) {
+        int slots = itemHandler.getSlots();
+        if (slotItems.length != slots) {
+            //slot layout has changed, so forget contents of old slots entirely
+            for (int i = 0; i < slotItems.length; i++) {
+                if (slotItems[i] != null) {
+                    changeItemAmount(slotItems[i], -slotAmounts[i]);
+                }
+            }
+            this.slotItems = new ItemStackKey[slots];
+            this.slotAmounts = new int[slots];
+        }
+        for (int i = 0; i < slots; i++) {
             ItemStack itemStack = itemHandler.getStackInSlot(i);
-            if (itemStack.isEmpty()) continue;
-            ItemStackKey stackKey = new ItemStackKey(itemStack);
-            amountMap.put(stackKey, amountMap.getOrDefault(stackKey, 0) + itemStack.getCount());
+            ItemStackKey oldStackKey = slotItems[i];
+            int oldAmount = slotAmounts[i];
+            if (oldStackKey != null && !itemStack.isEmpty() && oldStackKey.isItemStackEqual(itemStack)) {
+                //same item in slot, only it's amount could have changed
+                if (oldAmount != itemStack.getCount()) {
+                    changeItemAmount(oldStackKey, itemStack.getCount() - oldAmount);
+                    this.slotAmounts[i] = itemStack.getCount();
+                }
+                continue;
+            }
+            if (oldStackKey != null) {
+                changeItemAmount(oldStackKey, -oldAmount);
+                this.slotItems[i] = null;
+                this.slotAmounts[i] = 0;
+            }
+            if (!itemStack.isEmpty()) {
+                ItemStackKey stackKey = ItemStackKey.of(itemStack);
+                changeItemAmount(stackKey, itemStack.getCount());
+                this.slotItems[i] = stackKey;
+                this.slotAmounts[i] = itemStack.getCount();
+            }
         }
-        if (amountMap.equals(itemStackByAmountMap)) {
+        if (changedItems.isEmpty()) {
             return false;
         }
-        HashSet<ItemStackKey> removedItems = new HashSet<>(itemStackByAmountMap.keySet());
-        removedItems.removeAll(amountMap.keySet());
-        this.itemStackByAmountMap = amountMap;
+        HashMap<ItemStackKey, Integer> changedAmounts = new HashMap<>();
+        HashSet<ItemStackKey> removedItems = new HashSet<>();
+        for (ItemStackKey stackKey : changedItems) {
+            Integer amount = itemStackByAmountMap.get(stackKey);
+            if (amount == null) {
+                removedItems.add(stackKey);
+            } else {
+                changedAmounts.put(stackKey, amount);
+            }
+        }
+        this.changedItems.clear();
         if (changeCallback != null) {
-            changeCallback.onStoredItemsUpdated(amountMap, removedItems);
+            changeCallback.onStoredItemsUpdated(changedAmounts, removedItems);
         }
         return true;
     }
+
+    private void changeItemAmount(ItemStackKey stackKey, int amountDelta) {
+        int newAmount = itemStackByAmountMap.getOrDefault(stackKey, 0) + amountDelta;
+        if (newAmount > 0) {
+            this.itemStackByAmountMap.put(stackKey, newAmount);
+        } else {
+            this.itemStackByAmountMap.remove(stackKey);
+        }
+        this.changedItems.add(stackKey);
+    }
 }
 
@@ -19,6 +19,8 @@ import gregtech.api.metatileentity.MetaTileEntityHolder;
 import gregtech.api.metatileentity.TieredMetaTileEntity;
 import gregtech.api.render.Textures;
 import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.resources.I18n;
@@ -31,6 +33,7 @@ import net.minecraft.util.EnumFacing.Axis;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
@@ -44,8 +47,6 @@ import net.minecraftforge.items.ItemStackHandler;
 import org.apache.commons.lang3.ArrayUtils;
 
 import javax.annotation.Nullable;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.List;
 
 public class MetaTileEntityPump extends TieredMetaTileEntity {
@@ -55,8 +56,14 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
     private static final int EXTRA_PUMP_RANGE = 8;
     private static final int PUMP_SPEED_BASE = 40;
 
-    private Deque<BlockPos> fluidSourceBlocks = new ArrayDeque<>();
-    private Deque<BlockPos> blocksToCheck = new ArrayDeque<>();
+    private static final int MAX_BLOCKS_TO_CHECK = 8192;
+    private static final int MAX_VISITED_BLOCKS = 32768;
+    private static final int MAX_QUEUED_SOURCE_BLOCKS = 1024;
+
+    private final LongArrayFIFOQueue fluidSourceBlocks = new LongArrayFIFOQueue();
+    private final LongArrayFIFOQueue blocksToCheck = new LongArrayFIFOQueue();
+    //blocks queued for check since the search was started from the pump head
+    private final LongOpenHashSet visitedBlocks = new LongOpenHashSet();
     private boolean initializedQueue = false;
     private int pumpHeadY;
 
@@ -161,23 +168,32 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
 
     private void updateQueueState(int blocksToCheckAmount) {
         BlockPos selfPos = getPos().down(pumpHeadY);
-
-        for(int i = 0; i < blocksToCheckAmount; i++) {
-            BlockPos checkPos = null;
-            int amountIterated = 0;
-            do {
-                if (checkPos != null) {
-                    blocksToCheck.push(checkPos);
-                    amountIterated++;
-                }
-                checkPos = blocksToCheck.poll();
-
-            } while (checkPos != null &&
-                !getWorld().isBlockLoaded(checkPos) &&
-                amountIterated < blocksToCheck.size());
-            if (checkPos != null) {
-                checkFluidBlockAt(selfPos, checkPos);
-            } else break;
+        World world = getWorld();
+        Chunk chunk = null;
+
+        //found sources are pumped much slower than they are found, so stop searching once enough of them are queued
+        for (int i = 0; i < blocksToCheckAmount && !blocksToCheck.isEmpty() &&
+            fluidSourceBlocks.size() < MAX_QUEUED_SOURCE_BLOCKS; i++) {
+            //checked block can add all of it's neighbours, so stop before frontier or visited set can overflow
+            if (blocksToCheck.size() > MAX_BLOCKS_TO_CHECK - EnumFacing.VALUES.length ||
+                visitedBlocks.size() > MAX_VISITED_BLOCKS - EnumFacing.VALUES.length) {
+                //search grew too large, finish it here so next one starts from pump head once found sources are pumped
+                this.blocksToCheck.clear();
+                this.visitedBlocks.clear();
+                break;
+            }
+            long packedPos = blocksToCheck.dequeueLong();
+            BlockPos checkPos = BlockPos.fromLong(packedPos);
+            //search spreads to neighbours, so consecutive checks mostly hit the same chunk
+            if (chunk == null || chunk.x != checkPos.getX() >> 4 || chunk.z != checkPos.getZ() >> 4) {
+                chunk = world.getChunkProvider().getLoadedChunk(checkPos.getX() >> 4, checkPos.getZ() >> 4);
+            }
+            if (chunk == null) {
+                //forget unloaded block, so it can be found again by next search
+                this.visitedBlocks.remove(packedPos);
+                continue;
+            }
+            checkFluidBlockAt(selfPos, checkPos, chunk.getBlockState(checkPos));
         }
 
         if (fluidSourceBlocks.isEmpty()) {
@@ -201,22 +217,30 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
 
             if (!initializedQueue || getOffsetTimer() % 6000 == 0 || getTimer() == 0) {
                 this.initializedQueue = true;
-                //just add ourselves to check list and see how this will go
-                this.blocksToCheck.add(selfPos);
+                //start new search from the pump head once previous one is finished
+                if (blocksToCheck.isEmpty()) {
+                    this.visitedBlocks.clear();
+                    enqueueBlockCheck(selfPos.toLong());
+                }
             }
         }
     }
 
-    private void checkFluidBlockAt(BlockPos pumpHeadPos, BlockPos checkPos) {
-        IBlockState blockHere = getWorld().getBlockState(checkPos);
+    private void enqueueBlockCheck(long packedPos) {
+        if (visitedBlocks.add(packedPos)) {
+            this.blocksToCheck.enqueue(packedPos);
+        }
+    }
+
+    private void checkFluidBlockAt(BlockPos pumpHeadPos, BlockPos checkPos, IBlockState blockHere) {
         boolean shouldCheckNeighbours = isStraightInPumpRange(checkPos);
 
         if (blockHere.getBlock() instanceof BlockLiquid ||
             blockHere.getBlock() instanceof IFluidBlock) {
             IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(), checkPos, null);
-            FluidStack drainStack = fluidHandler.drain(Integer.MAX_VALUE, false);
+            FluidStack drainStack = fluidHandler == null ? null : fluidHandler.drain(Integer.MAX_VALUE, false);
             if (drainStack != null && drainStack.amount > 0) {
-                this.fluidSourceBlocks.add(checkPos);
+                this.fluidSourceBlocks.enqueue(checkPos.toLong());
             }
             shouldCheckNeighbours = true;
         }
@@ -227,26 +251,21 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
                 BlockPos offsetPos = checkPos.offset(facing);
                 if (offsetPos.distanceSq(pumpHeadPos) > maxPumpRange * maxPumpRange)
                     continue; //do not add blocks outside bounds
-                if (!fluidSourceBlocks.contains(offsetPos) &&
-                    !blocksToCheck.contains(offsetPos)) {
-                    this.blocksToCheck.add(offsetPos);
-                }
+                enqueueBlockCheck(offsetPos.toLong());
             }
         }
     }
 
     private void tryPumpFirstBlock() {
-        BlockPos fluidBlockPos = fluidSourceBlocks.poll();
-        if (fluidBlockPos == null) return;
+        BlockPos fluidBlockPos = BlockPos.fromLong(fluidSourceBlocks.dequeueLong());
         IBlockState blockHere = getWorld().getBlockState(fluidBlockPos);
         if (blockHere.getBlock() instanceof BlockLiquid ||
             blockHere.getBlock() instanceof IFluidBlock) {
             IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(), fluidBlockPos, null);
-            FluidStack drainStack = fluidHandler.drain(Integer.MAX_VALUE, false);
+            FluidStack drainStack = fluidHandler == null ? null : fluidHandler.drain(Integer.MAX_VALUE, false);
             if (drainStack != null && exportFluids.fill(drainStack, false) == drainStack.amount) {
                 exportFluids.fill(drainStack, true);
                 fluidHandler.drain(drainStack.amount, true);
-                this.fluidSourceBlocks.remove(fluidBlockPos);
                 energyContainer.changeEnergy(-GTValues.V[getTier()]);
             }
         }
@@ -87,6 +87,12 @@ public class MetaTileEntityMultiFurnace extends RecipeMapMultiblockController {
         return Textures.HEAT_PROOF_CASING;
     }
 
+    @Override
+    public int getMaxParallelRecipes() {
+        //multi smelter already merges all inputs it can process into one recipe
+        return 1;
+    }
+
     @Nonnull
     @Override
     protected OrientedOverlayRenderer getFrontOverlay() {
@@ -47,7 +47,7 @@ public class CachedRecipeData {
         ForgeHooks.setCraftingPlayer(null);
         for (ItemStack itemStack : remainingItems) {
             itemStack = itemStack.copy();
-            ItemStackKey stackKey = new ItemStackKey(itemStack);
+            ItemStackKey stackKey = ItemStackKey.of(itemStack);
             int remainingAmount = itemStack.getCount() - itemSourceList.insertItem(stackKey, itemStack.getCount(), false, InsertMode.HIGHEST_PRIORITY);
             if (remainingAmount > 0) {
                 itemStack.setCount(remainingAmount);
@@ -101,7 +101,7 @@ public class CachedRecipeData {
         if (currentStack.isEmpty()) {
             return true; //stack is empty, nothing to return
         }
-        ItemStackKey currentStackKey = new ItemStackKey(currentStack);
+        ItemStackKey currentStackKey = ItemStackKey.of(currentStack);
         if (simulateExtractItem(currentStackKey)) {
             //we can extract ingredient equal to the one in the crafting grid,
             //so just return it without searching equivalent
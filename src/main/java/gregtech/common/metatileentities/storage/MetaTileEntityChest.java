@@ -70,6 +70,12 @@ public class MetaTileEntityChest extends MetaTileEntity implements IFastRenderMe
         return new MetaTileEntityChest(metaTileEntityId, material, rowSize, amountOfRows);
     }
 
+    @Override
+    public boolean isTickable() {
+        //ticks are only needed for lid animation and checking players using chest
+        return numPlayersUsing != 0 || lidAngle > 0.0F;
+    }
+
     @Override
     public void update() {
         super.update();
@@ -127,6 +133,7 @@ public class MetaTileEntityChest extends MetaTileEntity implements IFastRenderMe
 
     private void updateNumPlayersUsing() {
         writeCustomData(100, buffer -> buffer.writeVarInt(numPlayersUsing));
+        updateTickingState();
     }
 
     @Override
@@ -172,7 +179,13 @@ public class MetaTileEntityChest extends MetaTileEntity implements IFastRenderMe
     @Override
     protected void initializeInventory() {
         super.initializeInventory();
-        this.inventory = new ItemStackHandler(rowSize * amountOfRows);
+        this.inventory = new ItemStackHandler(rowSize * amountOfRows) {
+            @Override
+            protected void onContentsChanged(int slot) {
+                //chest isn't ticking most of the time, so comparator value is updated from here
+                MetaTileEntityChest.this.markDirty();
+            }
+        };
         this.itemInventory = inventory;
     }
 
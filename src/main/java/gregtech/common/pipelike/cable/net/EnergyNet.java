@@ -8,17 +8,16 @@ import gregtech.common.pipelike.cable.WireProperties;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.MutableBlockPos;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Stack;
+import java.util.Map;
 
 public class EnergyNet extends PipeNet<WireProperties> {
 
     private final PerTickLongCounter currentAmperageCounter = new PerTickLongCounter(0L);
     private final PerTickLongCounter currentMaxVoltageCounter = new PerTickLongCounter(0L);
+    private final EnergyRouteTable routeTable = new EnergyRouteTable(this);
+    private final EnergyNetSolver solver = new EnergyNetSolver(this);
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
@@ -40,46 +39,96 @@ public class EnergyNet extends PipeNet<WireProperties> {
         }
     }
 
-    public List<RoutePath> computePatches(BlockPos startPos) {
-        ArrayList<RoutePath> readyPaths = new ArrayList<>();
-        RoutePath currentPath = new RoutePath();
-        Node<WireProperties> firstNode = getNodeAt(startPos);
-        currentPath.path.put(startPos, firstNode.data);
-        readyPaths.add(currentPath.cloneAndCompute(startPos));
-        HashSet<BlockPos> observedSet = new HashSet<>();
-        observedSet.add(startPos);
-        MutableBlockPos currentPos = new MutableBlockPos(startPos);
-        Stack<EnumFacing> moveStack = new Stack<>();
-        main:
-        while (true) {
+    /**
+     * @return routes from given node to itself and to every active node of this network,
+     * sorted by total loss. Returned list is never modified, so it can be iterated while network changes
+     */
+    public List<RoutePath> getRoutes(BlockPos sourcePos) {
+        return routeTable.getRoutes(sourcePos);
+    }
+
+    public EnergyNetSolver getSolver() {
+        return solver;
+    }
+
+    @Override
+    protected void onConnectionsUpdate() {
+        super.onConnectionsUpdate();
+        solver.invalidate();
+    }
+
+    boolean canConnect(Node<WireProperties> first, EnumFacing firstFacing, Node<WireProperties> second) {
+        return canNodesConnect(first, firstFacing, second, this);
+    }
+
+    @Override
+    protected void addNode(BlockPos nodePos, Node<WireProperties> node) {
+        super.addNode(nodePos, node);
+        routeTable.onNodeAdded(nodePos, node);
+    }
+
+    @Override
+    protected void removeNode(BlockPos nodePos) {
+        if (!containsNode(nodePos)) {
+            return;
+        }
+        int nodeCount = getAllNodes().size();
+        super.removeNode(nodePos);
+        if (getAllNodes().size() == nodeCount - 1) {
+            routeTable.onNodeRemoved(nodePos);
+        } else {
+            //network was split, so routes are rebuilt
+            routeTable.invalidate();
+        }
+    }
+
+    @Override
+    protected void updateBlockedConnections(BlockPos nodePos, EnumFacing facing, boolean isBlocked) {
+        int nodeCount = getAllNodes().size();
+        super.updateBlockedConnections(nodePos, facing, isBlocked);
+        if (getAllNodes().size() == nodeCount) {
+            updateRoutesOnConnectionChange(nodePos, facing);
+        } else {
+            routeTable.invalidate();
+        }
+    }
+
+    @Override
+    protected void updateMark(BlockPos nodePos, int newMark) {
+        int nodeCount = getAllNodes().size();
+        super.updateMark(nodePos, newMark);
+        if (getAllNodes().size() == nodeCount) {
             for (EnumFacing facing : EnumFacing.VALUES) {
-                currentPos.move(facing);
-                Node<WireProperties> secondNode = getNodeAt(currentPos);
-                if (secondNode != null && canNodesConnect(firstNode, facing, secondNode, this) && !observedSet.contains(currentPos)) {
-                    BlockPos immutablePos = currentPos.toImmutable();
-                    observedSet.add(immutablePos);
-                    firstNode = secondNode;
-                    moveStack.push(facing.getOpposite());
-                    currentPath.path.put(immutablePos, getNodeAt(immutablePos).data);
-                    if (secondNode.isActive) {
-                        //if we are on active node, this is end of our path
-                        RoutePath finalizedPath = currentPath.cloneAndCompute(immutablePos);
-                        readyPaths.add(finalizedPath);
-                    }
-                    continue main;
-                } else {
-                    currentPos.move(facing.getOpposite());
-                }
+                updateRoutesOnConnectionChange(nodePos, facing);
             }
-            if (!moveStack.isEmpty()) {
-                currentPos.move(moveStack.pop());
-                //also remove already visited block from path
-                currentPath.path.remove(currentPos);
-            } else break;
+        } else {
+            routeTable.invalidate();
         }
-        return readyPaths;
     }
 
+    @Override
+    public boolean markNodeAsActive(BlockPos nodePos, boolean isActive) {
+        boolean changed = super.markNodeAsActive(nodePos, isActive);
+        if (changed) {
+            routeTable.onNodeActivityChanged(nodePos, isActive);
+        }
+        return changed;
+    }
+
+    @Override
+    protected void transferNodeData(Map<BlockPos, Node<WireProperties>> transferredNodes, PipeNet<WireProperties> parentNet) {
+        super.transferNodeData(transferredNodes, parentNet);
+        routeTable.invalidate();
+    }
+
+    private void updateRoutesOnConnectionChange(BlockPos nodePos, EnumFacing facing) {
+        BlockPos offsetPos = nodePos.offset(facing);
+        Node<WireProperties> node = getNodeAt(nodePos);
+        Node<WireProperties> secondNode = getNodeAt(offsetPos);
+        if (node != null && secondNode != null) {
+            routeTable.onConnectionChanged(nodePos, offsetPos, canNodesConnect(node, facing, secondNode, this));
+        }
+    }
 
     @Override
     protected void writeNodeData(WireProperties nodeData, NBTTagCompound tagCompound) {
@@ -0,0 +1,35 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.capability.IEnergyContainer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Energy offered to {@link EnergyNet} by single source during current tick, settled by {@link EnergyNetSolver}
+ */
+class EnergyNetOffer {
+
+    final BlockPos nodePos;
+    final TileEntity sourceTile;
+    final IEnergyContainer source;
+    final long voltage;
+    final long amperage;
+
+    EnergyNetOffer(BlockPos nodePos, TileEntity sourceTile, IEnergyContainer source, long voltage, long amperage) {
+        this.nodePos = nodePos;
+        this.sourceTile = sourceTile;
+        this.source = source;
+        this.voltage = voltage;
+        this.amperage = amperage;
+    }
+
+    /**
+     * @return amperes source can still provide, it might have used its energy since offering it
+     */
+    long getAvailableAmperage() {
+        if (sourceTile.isInvalid()) {
+            return 0L;
+        }
+        return Math.min(amperage, source.getEnergyStored() / voltage);
+    }
+}
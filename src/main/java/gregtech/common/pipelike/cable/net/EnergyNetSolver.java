@@ -0,0 +1,203 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.capability.GregtechCapabilities;
+import gregtech.api.capability.IEnergyContainer;
+import gregtech.api.pipenet.Node;
+import gregtech.api.util.TaskPriority;
+import gregtech.api.util.TaskScheduler;
+import gregtech.common.pipelike.cable.WireProperties;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.world.World;
+
+import java.util.*;
+
+/**
+ * Batched energy distribution of single {@link EnergyNet}, used when
+ * {@link gregtech.common.ConfigHolder#energyNetSolver} is enabled
+ * <p>
+ * Cables don't dispatch energy offered to them immediately. Instead offers of all sources are collected
+ * during the tick and settled once at the end of it: consumers attached to active nodes are resolved once,
+ * offers entering network at the same node with the same voltage are merged and dispatched along their
+ * routes together, and sources are drained only by amperes consumers actually accepted.
+ * Cable voltage and amperage limits along routes are checked the same way as in regular distribution,
+ * against combined amperage of merged offers
+ */
+public class EnergyNetSolver {
+
+    private final EnergyNet energyNet;
+    //source offering energy through several cables of this network is only counted once
+    private final Map<IEnergyContainer, EnergyNetOffer> pendingOffers = new Reference2ObjectLinkedOpenHashMap<>();
+    private final Map<BlockPos, List<Consumer>> consumersByNode = new HashMap<>();
+    private boolean settleScheduled;
+
+    public EnergyNetSolver(EnergyNet energyNet) {
+        this.energyNet = energyNet;
+    }
+
+    /**
+     * Drops resolved consumers, so they are resolved again on next settle
+     * Called when network connections or active nodes change
+     */
+    public void invalidate() {
+        this.consumersByNode.clear();
+    }
+
+    /**
+     * Queues energy offered by given source into network at given node. Energy is taken from
+     * source when offers are settled at the end of the tick, so source shouldn't drain itself
+     */
+    public void offerEnergy(BlockPos nodePos, TileEntity sourceTile, IEnergyContainer source, long voltage, long amperage) {
+        if (voltage <= 0L || amperage <= 0L || pendingOffers.containsKey(source)) {
+            return;
+        }
+        pendingOffers.put(source, new EnergyNetOffer(nodePos.toImmutable(), sourceTile, source, voltage, amperage));
+        if (!settleScheduled) {
+            this.settleScheduled = true;
+            TaskScheduler.scheduleTask(energyNet.getWorldData(), this::settleOffers, TaskPriority.HIGH);
+        }
+    }
+
+    private boolean settleOffers() {
+        this.settleScheduled = false;
+        List<EnergyNetOffer> offers = new ArrayList<>(pendingOffers.values());
+        pendingOffers.clear();
+        //consumers might have used their energy since last settle, so resolve them again
+        consumersByNode.clear();
+        if (!energyNet.isValid()) {
+            return false;
+        }
+        //offers sharing node and voltage share routes too, so they are dispatched at once
+        offers.sort(Comparator.comparingLong((EnergyNetOffer offer) -> offer.nodePos.toLong())
+            .thenComparingLong(offer -> offer.voltage));
+        int groupStart = 0;
+        while (groupStart < offers.size()) {
+            EnergyNetOffer firstOffer = offers.get(groupStart);
+            int groupEnd = groupStart + 1;
+            while (groupEnd < offers.size() && offers.get(groupEnd).voltage == firstOffer.voltage &&
+                offers.get(groupEnd).nodePos.equals(firstOffer.nodePos)) {
+                groupEnd++;
+            }
+            settleOfferGroup(offers.subList(groupStart, groupEnd), firstOffer.nodePos, firstOffer.voltage);
+            groupStart = groupEnd;
+        }
+        return false;
+    }
+
+    private void settleOfferGroup(List<EnergyNetOffer> offers, BlockPos nodePos, long voltage) {
+        long[] availableAmperage = new long[offers.size()];
+        long totalAmperage = 0L;
+        for (int i = 0; i < offers.size(); i++) {
+            availableAmperage[i] = offers.get(i).getAvailableAmperage();
+            totalAmperage += availableAmperage[i];
+        }
+        if (totalAmperage == 0L || !energyNet.containsNode(nodePos)) {
+            return;
+        }
+        long amperesUsed = dispatchEnergy(nodePos, voltage, totalAmperage);
+        energyNet.incrementCurrentAmperage(totalAmperage, voltage);
+        //drain sources in order they offered energy
+        for (int i = 0; i < offers.size() && amperesUsed > 0L; i++) {
+            long sourceAmperes = Math.min(availableAmperage[i], amperesUsed);
+            offers.get(i).source.removeEnergy(sourceAmperes * voltage);
+            amperesUsed -= sourceAmperes;
+        }
+    }
+
+    private long dispatchEnergy(BlockPos sourcePos, long voltage, long amperage) {
+        World world = energyNet.getWorldData();
+        List<RoutePath> paths = energyNet.getRoutes(sourcePos);
+        long amperesUsed = 0L;
+        for (RoutePath routePath : paths) {
+            if (routePath.totalLoss >= voltage) {
+                continue; //do not emit if loss is too high
+            }
+            List<Consumer> consumers = getConsumers(world, routePath.destination);
+            amperesUsed += dispatchEnergyToConsumers(consumers, voltage - routePath.totalLoss, amperage - amperesUsed);
+
+            if (voltage > routePath.minVoltage ||
+                amperesUsed > routePath.maxAmperage) {
+                RoutePath.burnAllPaths(world, paths, voltage, amperage, amperesUsed);
+                break; //break after burning all paths
+            }
+
+            if (amperesUsed == amperage) {
+                break; //do not continue if all amperes are exhausted
+            }
+        }
+        return amperesUsed;
+    }
+
+    private static long dispatchEnergyToConsumers(List<Consumer> consumers, long voltage, long amperage) {
+        long amperesUsed = 0L;
+        for (Consumer consumer : consumers) {
+            if (consumer.remainingAmperage == 0L || consumer.tileEntity.isInvalid()) {
+                continue;
+            }
+            long amperesAccepted = consumer.energyContainer.acceptEnergyFromNetwork(consumer.side, voltage,
+                Math.min(consumer.remainingAmperage, amperage - amperesUsed));
+            consumer.remainingAmperage -= amperesAccepted;
+            amperesUsed += amperesAccepted;
+            if (amperesUsed == amperage)
+                break;
+        }
+        return amperesUsed;
+    }
+
+    private List<Consumer> getConsumers(World world, BlockPos nodePos) {
+        List<Consumer> consumers = consumersByNode.get(nodePos);
+        if (consumers == null) {
+            consumers = resolveConsumers(world, nodePos);
+            consumersByNode.put(nodePos, consumers);
+        }
+        return consumers;
+    }
+
+    private List<Consumer> resolveConsumers(World world, BlockPos nodePos) {
+        Node<WireProperties> node = energyNet.getNodeAt(nodePos);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<Consumer> consumers = new ArrayList<>();
+        MutableBlockPos blockPos = new MutableBlockPos();
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            if ((node.blockedConnections & 1 << facing.getIndex()) > 0) {
+                continue; //do not dispatch energy to blocked sides
+            }
+            blockPos.setPos(nodePos).move(facing);
+            if (!world.isBlockLoaded(blockPos)) {
+                continue; //do not allow cables to load chunks
+            }
+            TileEntity tileEntity = world.getTileEntity(blockPos);
+            if (tileEntity == null || tileEntity instanceof TileEntityCable) {
+                continue; //do not emit into other cable tile entities
+            }
+            EnumFacing side = facing.getOpposite();
+            IEnergyContainer energyContainer = tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side);
+            if (energyContainer == null) continue;
+            consumers.add(new Consumer(tileEntity, side, energyContainer));
+        }
+        return consumers;
+    }
+
+    private static class Consumer {
+
+        private final TileEntity tileEntity;
+        private final EnumFacing side;
+        private final IEnergyContainer energyContainer;
+        //amperes consumer can still accept during this settle, reduced only by amperes it actually accepted
+        private long remainingAmperage;
+
+        private Consumer(TileEntity tileEntity, EnumFacing side, IEnergyContainer energyContainer) {
+            this.tileEntity = tileEntity;
+            this.side = side;
+            this.energyContainer = energyContainer;
+            long inputAmperage = energyContainer.getInputAmperage();
+            this.remainingAmperage = inputAmperage > 0L ? inputAmperage : Long.MAX_VALUE;
+        }
+    }
+}
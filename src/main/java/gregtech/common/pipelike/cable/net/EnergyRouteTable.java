@@ -0,0 +1,84 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.pipenet.Node;
+import gregtech.common.ConfigHolder;
+import gregtech.common.pipelike.cable.WireProperties;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.*;
+
+/**
+ * Route table of single {@link EnergyNet}, shared by all cables emitting energy into it
+ * Holds {@link EnergyRouteTree} for sources that emitted energy recently, and patches them
+ * on network changes instead of recomputing. Trees that can't be patched are dropped
+ * and rebuilt lazily on next query
+ * <p>
+ * Trees of sources which didn't emit for {@link #IDLE_TREE_TIME} ticks are dropped, and total size
+ * of all trees is limited by {@link ConfigHolder#energyNetRouteTableSize}, least recently used trees are dropped first
+ */
+public class EnergyRouteTable {
+
+    private static final int IDLE_TREE_TIME = 200;
+
+    private final EnergyNet energyNet;
+    //access ordered, so least recently queried trees come first
+    private final Map<BlockPos, EnergyRouteTree> treesBySource = new LinkedHashMap<>(16, 0.75f, true);
+    private long lastEvictionTime;
+
+    public EnergyRouteTable(EnergyNet energyNet) {
+        this.energyNet = energyNet;
+    }
+
+    public List<RoutePath> getRoutes(BlockPos sourcePos) {
+        long worldTime = energyNet.getWorldData().getTotalWorldTime();
+        if (worldTime - lastEvictionTime >= IDLE_TREE_TIME) {
+            this.lastEvictionTime = worldTime;
+            treesBySource.values().removeIf(routeTree -> worldTime - routeTree.lastQueryTime >= IDLE_TREE_TIME);
+        }
+        EnergyRouteTree routeTree = treesBySource.get(sourcePos);
+        if (routeTree == null) {
+            if (!energyNet.containsNode(sourcePos)) {
+                return Collections.emptyList();
+            }
+            BlockPos immutablePos = sourcePos.toImmutable();
+            routeTree = new EnergyRouteTree(energyNet, immutablePos);
+            treesBySource.put(immutablePos, routeTree);
+            trimToSize();
+        }
+        routeTree.lastQueryTime = worldTime;
+        return routeTree.getRoutes();
+    }
+
+    private void trimToSize() {
+        int totalSize = 0;
+        for (EnergyRouteTree routeTree : treesBySource.values()) {
+            totalSize += routeTree.getSize();
+        }
+        //newly added tree is the last one, so it's always kept
+        Iterator<EnergyRouteTree> iterator = treesBySource.values().iterator();
+        while (totalSize > ConfigHolder.energyNetRouteTableSize && treesBySource.size() > 1) {
+            totalSize -= iterator.next().getSize();
+            iterator.remove();
+        }
+    }
+
+    public void onNodeAdded(BlockPos nodePos, Node<WireProperties> node) {
+        treesBySource.values().removeIf(routeTree -> !routeTree.onNodeAdded(nodePos, node));
+    }
+
+    public void onNodeRemoved(BlockPos nodePos) {
+        treesBySource.values().removeIf(routeTree -> !routeTree.onNodeRemoved(nodePos));
+    }
+
+    public void onNodeActivityChanged(BlockPos nodePos, boolean isActive) {
+        treesBySource.values().forEach(routeTree -> routeTree.onNodeActivityChanged(nodePos, isActive));
+    }
+
+    public void onConnectionChanged(BlockPos firstPos, BlockPos secondPos, boolean isConnected) {
+        treesBySource.values().removeIf(routeTree -> !routeTree.onConnectionChanged(firstPos, secondPos, isConnected));
+    }
+
+    public void invalidate() {
+        treesBySource.clear();
+    }
+}
@@ -0,0 +1,233 @@
+package gregtech.common.pipelike.cable.net;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gregtech.api.pipenet.Node;
+import gregtech.common.pipelike.cable.WireProperties;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+
+import java.util.*;
+
+/**
+ * Shortest-loss path tree of {@link EnergyNet} rooted at single source node
+ * Keeps loss and parent of every reachable node, so routes can be patched when
+ * nodes are added, removed or change their active state without searching whole network again
+ */
+public class EnergyRouteTree {
+
+    private static final int NO_LOSS = -1;
+
+    private final EnergyNet energyNet;
+    private final BlockPos source;
+    private final Map<BlockPos, BlockPos> parents = new HashMap<>();
+    private final TObjectIntMap<BlockPos> losses = new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, NO_LOSS);
+    private final Map<BlockPos, RoutePath> routesByDestination = new HashMap<>();
+    //list is replaced instead of modified, so callers can keep iterating it
+    //while dispatching energy changes network (for example, by burning cables)
+    private List<RoutePath> routes = Collections.emptyList();
+    //world time of last query, used by route table to drop trees of sources which stopped emitting
+    long lastQueryTime;
+
+    EnergyRouteTree(EnergyNet energyNet, BlockPos source) {
+        this.energyNet = energyNet;
+        this.source = source;
+        computeRoutes();
+    }
+
+    /**
+     * @return routes to source itself and to every active node, sorted by total loss
+     */
+    public List<RoutePath> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * @return amount of nodes reachable from source, which are held by this tree
+     */
+    int getSize() {
+        return losses.size();
+    }
+
+    private void computeRoutes() {
+        Node<WireProperties> sourceNode = energyNet.getNodeAt(source);
+        List<RoutePath> computedRoutes = new ArrayList<>();
+        PriorityQueue<QueueEntry> queue = new PriorityQueue<>();
+        MutableBlockPos offsetPos = new MutableBlockPos();
+        losses.put(source, sourceNode.data.lossPerBlock);
+        queue.add(new QueueEntry(source, sourceNode.data.lossPerBlock));
+        while (!queue.isEmpty()) {
+            QueueEntry entry = queue.poll();
+            if (entry.loss != losses.get(entry.nodePos)) {
+                continue; //node was already reached with lower loss
+            }
+            Node<WireProperties> node = energyNet.getNodeAt(entry.nodePos);
+            if (node.isActive || entry.nodePos.equals(source)) {
+                //nodes are settled in order of their loss, so routes come out sorted
+                RoutePath routePath = createRoute(entry.nodePos);
+                routesByDestination.put(entry.nodePos, routePath);
+                computedRoutes.add(routePath);
+            }
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                offsetPos.setPos(entry.nodePos).move(facing);
+                Node<WireProperties> secondNode = energyNet.getNodeAt(offsetPos);
+                if (secondNode == null || !energyNet.canConnect(node, facing, secondNode)) {
+                    continue;
+                }
+                int newLoss = entry.loss + secondNode.data.lossPerBlock;
+                int oldLoss = losses.get(offsetPos);
+                if (oldLoss == NO_LOSS || newLoss < oldLoss) {
+                    BlockPos immutablePos = offsetPos.toImmutable();
+                    losses.put(immutablePos, newLoss);
+                    parents.put(immutablePos, entry.nodePos);
+                    queue.add(new QueueEntry(immutablePos, newLoss));
+                }
+            }
+        }
+        this.routes = computedRoutes;
+    }
+
+    /**
+     * Called after node was added to the network
+     * @return false if tree can't be patched and should be rebuilt
+     */
+    boolean onNodeAdded(BlockPos nodePos, Node<WireProperties> node) {
+        BlockPos attachedPos = null;
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            BlockPos offsetPos = nodePos.offset(facing);
+            Node<WireProperties> secondNode = energyNet.getNodeAt(offsetPos);
+            if (secondNode == null || !energyNet.canConnect(node, facing, secondNode)) {
+                continue;
+            }
+            //node connecting several nodes can be a shortcut for existing routes
+            if (attachedPos != null || !losses.containsKey(offsetPos)) {
+                return false;
+            }
+            attachedPos = offsetPos;
+        }
+        if (attachedPos == null) {
+            return false;
+        }
+        //node attached to single neighbour only extends tree and doesn't affect other routes
+        losses.put(nodePos, losses.get(attachedPos) + node.data.lossPerBlock);
+        parents.put(nodePos, attachedPos);
+        if (node.isActive) {
+            addRoute(nodePos);
+        }
+        return true;
+    }
+
+    /**
+     * Called after node was removed from the network
+     * @return false if tree can't be patched and should be rebuilt
+     */
+    boolean onNodeRemoved(BlockPos nodePos) {
+        if (nodePos.equals(source)) {
+            return false;
+        }
+        if (!losses.containsKey(nodePos)) {
+            return true;
+        }
+        MutableBlockPos offsetPos = new MutableBlockPos();
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            offsetPos.setPos(nodePos).move(facing);
+            if (nodePos.equals(parents.get(offsetPos))) {
+                return false; //some routes went through removed node
+            }
+        }
+        //leaf of the tree isn't used by any other route
+        losses.remove(nodePos);
+        parents.remove(nodePos);
+        removeRoute(nodePos);
+        return true;
+    }
+
+    /**
+     * Called after active state of the node has changed
+     */
+    void onNodeActivityChanged(BlockPos nodePos, boolean isActive) {
+        if (nodePos.equals(source) || !losses.containsKey(nodePos)) {
+            return;
+        }
+        if (isActive) {
+            addRoute(nodePos);
+        } else {
+            removeRoute(nodePos);
+        }
+    }
+
+    /**
+     * Called after connection between two adjacent nodes of the network might have changed
+     * @return false if tree can't be patched and should be rebuilt
+     */
+    boolean onConnectionChanged(BlockPos firstPos, BlockPos secondPos, boolean isConnected) {
+        int firstLoss = losses.get(firstPos);
+        int secondLoss = losses.get(secondPos);
+        if (firstLoss == NO_LOSS || secondLoss == NO_LOSS) {
+            return false;
+        }
+        if (!isConnected) {
+            //only disconnecting tree edge changes routes
+            return !firstPos.equals(parents.get(secondPos)) && !secondPos.equals(parents.get(firstPos));
+        }
+        //new connection only matters if it gives lower loss to either of nodes
+        return firstLoss + energyNet.getNodeAt(secondPos).data.lossPerBlock >= secondLoss &&
+            secondLoss + energyNet.getNodeAt(firstPos).data.lossPerBlock >= firstLoss;
+    }
+
+    private void addRoute(BlockPos destination) {
+        if (routesByDestination.containsKey(destination)) {
+            return;
+        }
+        RoutePath routePath = createRoute(destination);
+        routesByDestination.put(destination, routePath);
+        List<RoutePath> newRoutes = new ArrayList<>(routes.size() + 1);
+        newRoutes.addAll(routes);
+        int index = 0;
+        while (index < newRoutes.size() && newRoutes.get(index).totalLoss <= routePath.totalLoss) {
+            index++;
+        }
+        newRoutes.add(index, routePath);
+        this.routes = newRoutes;
+    }
+
+    private void removeRoute(BlockPos destination) {
+        RoutePath routePath = routesByDestination.remove(destination);
+        if (routePath != null) {
+            List<RoutePath> newRoutes = new ArrayList<>(routes);
+            newRoutes.remove(routePath);
+            this.routes = newRoutes;
+        }
+    }
+
+    private RoutePath createRoute(BlockPos destination) {
+        RoutePath routePath = new RoutePath();
+        routePath.destination = destination;
+        routePath.totalLoss = losses.get(destination);
+        for (BlockPos nodePos = destination; nodePos != null; nodePos = parents.get(nodePos)) {
+            WireProperties wireProperties = energyNet.getNodeAt(nodePos).data;
+            routePath.path.put(nodePos, wireProperties);
+            routePath.maxAmperage = Math.min(routePath.maxAmperage, wireProperties.amperage);
+            routePath.minVoltage = Math.min(routePath.minVoltage, wireProperties.voltage);
+        }
+        return routePath;
+    }
+
+    private static class QueueEntry implements Comparable<QueueEntry> {
+
+        private final BlockPos nodePos;
+        private final int loss;
+
+        private QueueEntry(BlockPos nodePos, int loss) {
+            this.nodePos = nodePos;
+            this.loss = loss;
+        }
+
+        @Override
+        public int compareTo(QueueEntry other) {
+            return Integer.compare(loss, other.loss);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
 import java.util.HashMap;
+import java.util.List;
 
 public class RoutePath {
 
@@ -19,16 +20,12 @@ public class RoutePath {
     public int minVoltage = Integer.MAX_VALUE;
     public int totalLoss;
 
-    public RoutePath cloneAndCompute(BlockPos destination) {
-        RoutePath newPath = new RoutePath();
-        newPath.path = new HashMap<>(path);
-        newPath.destination = destination;
-        for (WireProperties wireProperties : path.values()) {
-            newPath.maxAmperage = Math.min(newPath.maxAmperage, wireProperties.amperage);
-            newPath.minVoltage = Math.min(newPath.minVoltage, wireProperties.voltage);
-            newPath.totalLoss += wireProperties.lossPerBlock;
+    public static void burnAllPaths(World world, List<RoutePath> paths, long voltage, long amperage, long lastAmperage) {
+        for (RoutePath pathToBurn : paths) {
+            if (voltage > pathToBurn.minVoltage || amperage > pathToBurn.maxAmperage || lastAmperage > pathToBurn.maxAmperage) {
+                pathToBurn.burnCablesInPath(world, voltage, Math.max(amperage, lastAmperage));
+            }
         }
-        return newPath;
     }
 
     public boolean burnCablesInPath(World world, long voltage, long amperage) {
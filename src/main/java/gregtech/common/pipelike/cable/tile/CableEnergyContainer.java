@@ -3,6 +3,7 @@ package gregtech.common.pipelike.cable.tile;
 import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.pipenet.tile.IPipeTile;
+import gregtech.common.ConfigHolder;
 import gregtech.common.pipelike.cable.Insulation;
 import gregtech.common.pipelike.cable.WireProperties;
 import gregtech.common.pipelike.cable.net.EnergyNet;
@@ -22,8 +23,6 @@ public class CableEnergyContainer implements IEnergyContainer {
 
     private final IPipeTile<Insulation, WireProperties> tileEntityCable;
     private WeakReference<EnergyNet> currentEnergyNet = new WeakReference<>(null);
-    private long lastCachedUpdate;
-    private List<RoutePath> pathsCache;
 
     public CableEnergyContainer(IPipeTile<Insulation, WireProperties> tileEntityCable) {
         this.tileEntityCable = tileEntityCable;
@@ -35,6 +34,16 @@ public class CableEnergyContainer implements IEnergyContainer {
         if (energyNet == null) {
             return 0L;
         }
+        if (ConfigHolder.energyNetSolver && side != null) {
+            BlockPos sourcePos = tileEntityCable.getPipePos().offset(side);
+            TileEntity sourceTile = tileEntityCable.getPipeWorld().getTileEntity(sourcePos);
+            IEnergyContainer source = sourceTile == null ? null : sourceTile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, side.getOpposite());
+            if (source != null) {
+                //network takes energy from source itself when it settles offers at the end of the tick
+                energyNet.getSolver().offerEnergy(tileEntityCable.getPipePos(), sourceTile, source, voltage, amperage);
+                return 0L;
+            }
+        }
         List<RoutePath> paths = getPaths();
         long amperesUsed = 0;
         for (RoutePath routePath : paths) {
@@ -48,7 +57,7 @@ public class CableEnergyContainer implements IEnergyContainer {
 
             if (voltage > routePath.minVoltage ||
                 amperesUsed > routePath.maxAmperage) {
-                burnAllPaths(paths, voltage, amperage, amperesUsed);
+                RoutePath.burnAllPaths(tileEntityCable.getPipeWorld(), paths, voltage, amperage, amperesUsed);
                 break; //break after burning all paths
             }
 
@@ -60,14 +69,6 @@ public class CableEnergyContainer implements IEnergyContainer {
         return amperesUsed;
     }
 
-    private void burnAllPaths(List<RoutePath> paths, long voltage, long amperage, long lastAmperage) {
-        for (RoutePath pathToBurn : paths) {
-            if (voltage > pathToBurn.minVoltage || amperage > pathToBurn.maxAmperage || lastAmperage > pathToBurn.maxAmperage) {
-                pathToBurn.burnCablesInPath(tileEntityCable.getPipeWorld(), voltage, Math.max(amperage, lastAmperage));
-            }
-        }
-    }
-
     private long dispatchEnergyToNode(BlockPos nodePos, int nodeBlockedConnections, long voltage, long amperage) {
         long amperesUsed = 0L;
         //use pooled mutable to avoid creating new objects every tick
@@ -133,20 +134,12 @@ public class CableEnergyContainer implements IEnergyContainer {
         return 0;
     }
 
-    private void recomputePaths(EnergyNet energyNet) {
-        this.lastCachedUpdate = energyNet.getLastUpdate();
-        this.pathsCache = energyNet.computePatches(tileEntityCable.getPipePos());
-    }
-
     private List<RoutePath> getPaths() {
         EnergyNet energyNet = getEnergyNet();
         if (energyNet == null) {
             return Collections.emptyList();
         }
-        if (pathsCache == null || energyNet.getLastUpdate() > lastCachedUpdate) {
-            recomputePaths(energyNet);
-        }
-        return pathsCache;
+        return energyNet.getRoutes(tileEntityCable.getPipePos());
     }
 
     private EnergyNet getEnergyNet() {
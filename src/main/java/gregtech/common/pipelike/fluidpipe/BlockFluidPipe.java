@@ -172,6 +172,16 @@ public class BlockFluidPipe extends BlockMaterialPipe<FluidPipeType, FluidPipePr
         return supportsTicking ? new TileEntityFluidPipeTickable() : new TileEntityFluidPipe();
     }
 
+    @Override
+    public void updateActiveNodeStatus(World worldIn, BlockPos pos, IPipeTile<FluidPipeType, FluidPipeProperties> pipeTile) {
+        super.updateActiveNodeStatus(worldIn, pos, pipeTile);
+        //neighbours of the node have changed, so it's receivers have to be resolved again
+        FluidPipeNet fluidPipeNet = getWorldPipeNet(worldIn).getNetFromPos(pos);
+        if (fluidPipeNet != null) {
+            fluidPipeNet.getScheduler().invalidateNode(pos);
+        }
+    }
+
     @Override
     protected void onActiveModeChange(World world, BlockPos pos, boolean isActiveNow, boolean isInitialChange) {
         TileEntityFluidPipe oldTileEntity = (TileEntityFluidPipe) world.getTileEntity(pos);
@@ -22,6 +22,7 @@ import java.util.Random;
 public class FluidPipeNet extends MonolithicPipeNet<FluidPipeProperties> {
 
     private final FluidNetTank fluidNetTank = new FluidNetTank(this);
+    private final FluidPipeNetScheduler scheduler = new FluidPipeNetScheduler(this);
 
     public FluidPipeNet(WorldPipeNet<FluidPipeProperties, FluidPipeNet> world) {
         super(world);
@@ -31,6 +32,10 @@ public class FluidPipeNet extends MonolithicPipeNet<FluidPipeProperties> {
         return fluidNetTank;
     }
 
+    public FluidPipeNetScheduler getScheduler() {
+        return scheduler;
+    }
+
     public int getMaxThroughput() {
         if (fluidNetTank.getCapacity() == 0) {
             return 0;
@@ -73,6 +78,7 @@ public class FluidPipeNet extends MonolithicPipeNet<FluidPipeProperties> {
         //monolithic net always contains exactly one kind of nodes, so this is always safe
         int newTankCapacity = nodeData.throughput * getAllNodes().size();
         fluidNetTank.updateTankCapacity(newTankCapacity);
+        scheduler.invalidate();
     }
 
     @Override
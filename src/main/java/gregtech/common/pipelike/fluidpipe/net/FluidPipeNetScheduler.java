@@ -0,0 +1,158 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.pipenet.tile.IPipeTile;
+import gregtech.api.util.GTFluidUtils;
+import gregtech.common.pipelike.fluidpipe.BlockFluidPipe;
+import gregtech.common.pipelike.fluidpipe.FluidPipeProperties;
+import gregtech.common.pipelike.fluidpipe.FluidPipeType;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Schedules pushing of fluids from {@link FluidPipeNet} tank into handlers attached to it's active nodes
+ * <p>
+ * Receiver handlers of every active node are resolved once and cached until neighbours of that node
+ * or connections of the network change. Whole network is skipped while it's tank is empty, and while
+ * receivers keep refusing fluid it retries with growing interval, up to {@link #MAX_RETRY_INTERVAL} ticks.
+ * Interval is reset when any receiver accepts fluid or neighbours of one of network nodes change
+ */
+public class FluidPipeNetScheduler {
+
+    private static final int MAX_RETRY_INTERVAL = 8;
+
+    private final FluidPipeNet fluidPipeNet;
+    private final Map<BlockPos, CachedNode> cachedNodes = new HashMap<>();
+    private long currentTick = -1L;
+    private boolean attemptedThisTick;
+    private boolean transferredThisTick;
+    private long idleUntilTick;
+    //ticks until next attempt after tick in which nothing accepted fluid, doubled on every such tick
+    private int retryInterval = 1;
+
+    public FluidPipeNetScheduler(FluidPipeNet fluidPipeNet) {
+        this.fluidPipeNet = fluidPipeNet;
+    }
+
+    /**
+     * Drops receivers of all nodes, called when connections of the network change
+     */
+    public void invalidate() {
+        this.cachedNodes.clear();
+        wakeUp();
+    }
+
+    /**
+     * Drops receivers of given node and wakes network up, called when neighbours of node change
+     */
+    public void invalidateNode(BlockPos nodePos) {
+        this.cachedNodes.remove(nodePos);
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        this.idleUntilTick = 0L;
+        this.retryInterval = 1;
+    }
+
+    public void pushFluids(IPipeTile<FluidPipeType, FluidPipeProperties> pipeTile) {
+        long worldTime = pipeTile.getPipeWorld().getTotalWorldTime();
+        if (worldTime != currentTick) {
+            //nothing accepted fluid during last tick, so give receivers some time before offering again
+            if (attemptedThisTick && !transferredThisTick) {
+                this.idleUntilTick = worldTime - 1 + retryInterval;
+                this.retryInterval = Math.min(retryInterval * 2, MAX_RETRY_INTERVAL);
+            } else if (transferredThisTick) {
+                this.retryInterval = 1;
+            }
+            this.currentTick = worldTime;
+            this.attemptedThisTick = false;
+            this.transferredThisTick = false;
+        }
+        if (worldTime < idleUntilTick || fluidPipeNet.getFluidNetTank().getFluidAmount() == 0) {
+            return;
+        }
+        CachedNode cachedNode = getCachedNode(pipeTile);
+        this.attemptedThisTick = true;
+        for (int i = 0; i < cachedNode.receiverCount; i++) {
+            if (cachedNode.receiverTiles[i].isInvalid()) {
+                //receiver was removed without notifying us, resolve node again next time
+                cachedNodes.remove(pipeTile.getPipePos());
+                continue;
+            }
+            if (GTFluidUtils.transferFluids(cachedNode.sourceHandlers[i], cachedNode.receiverHandlers[i], Integer.MAX_VALUE) > 0) {
+                this.transferredThisTick = true;
+            }
+        }
+    }
+
+    private CachedNode getCachedNode(IPipeTile<FluidPipeType, FluidPipeProperties> pipeTile) {
+        CachedNode cachedNode = cachedNodes.get(pipeTile.getPipePos());
+        //pipe tile can be replaced by cover holder, and blocking side facing non-pipe block doesn't update network
+        if (cachedNode != null && cachedNode.pipeTile == pipeTile &&
+            cachedNode.blockedConnections == pipeTile.getBlockedConnections()) {
+            return cachedNode;
+        }
+        cachedNode = new CachedNode(pipeTile);
+        if (resolveReceivers(cachedNode)) {
+            cachedNodes.put(pipeTile.getPipePos().toImmutable(), cachedNode);
+        }
+        return cachedNode;
+    }
+
+    /**
+     * @return true if all neighbours were loaded, so resolved receivers can be cached
+     */
+    private static boolean resolveReceivers(CachedNode cachedNode) {
+        IPipeTile<FluidPipeType, FluidPipeProperties> pipeTile = cachedNode.pipeTile;
+        World world = pipeTile.getPipeWorld();
+        BlockFluidPipe blockFluidPipe = (BlockFluidPipe) pipeTile.getPipeBlock();
+        MutableBlockPos blockPos = new MutableBlockPos();
+        boolean allNeighboursLoaded = true;
+        for (EnumFacing side : EnumFacing.VALUES) {
+            if ((cachedNode.blockedConnections & 1 << side.getIndex()) > 0) {
+                continue; //do not dispatch fluids to blocked sides
+            }
+            blockPos.setPos(pipeTile.getPipePos()).move(side);
+            if (!world.isBlockLoaded(blockPos)) {
+                allNeighboursLoaded = false;
+                continue; //do not allow pipes to load chunks
+            }
+            TileEntity tileEntity = world.getTileEntity(blockPos);
+            if (tileEntity == null) {
+                continue; //do not emit into multiparts or other fluid pipes
+            }
+            IFluidHandler sourceHandler = pipeTile.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
+            IFluidHandler receiverHandler = tileEntity.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite());
+            if (sourceHandler != null && receiverHandler != null && blockFluidPipe.canPushIntoFluidHandler(pipeTile, tileEntity, sourceHandler, receiverHandler)) {
+                int index = cachedNode.receiverCount++;
+                cachedNode.receiverTiles[index] = tileEntity;
+                cachedNode.sourceHandlers[index] = sourceHandler;
+                cachedNode.receiverHandlers[index] = receiverHandler;
+            }
+        }
+        return allNeighboursLoaded;
+    }
+
+    private static class CachedNode {
+
+        private final IPipeTile<FluidPipeType, FluidPipeProperties> pipeTile;
+        private final int blockedConnections;
+        private final TileEntity[] receiverTiles = new TileEntity[EnumFacing.VALUES.length];
+        private final IFluidHandler[] sourceHandlers = new IFluidHandler[EnumFacing.VALUES.length];
+        private final IFluidHandler[] receiverHandlers = new IFluidHandler[EnumFacing.VALUES.length];
+        private int receiverCount;
+
+        private CachedNode(IPipeTile<FluidPipeType, FluidPipeProperties> pipeTile) {
+            this.pipeTile = pipeTile;
+            this.blockedConnections = pipeTile.getBlockedConnections();
+        }
+    }
+}
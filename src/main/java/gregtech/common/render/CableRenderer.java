@@ -61,6 +61,7 @@ public class CableRenderer implements ICCBlockRenderer, IItemRenderer {
 
     private TextureAtlasSprite[] insulationTextures = new TextureAtlasSprite[6];
     private TextureAtlasSprite wireTexture;
+    private final PipeModelCache modelCache = new PipeModelCache();
 
     public static void preInit() {
         BLOCK_RENDER_TYPE = BlockRenderingRegistry.createRenderType("gt_cable");
@@ -77,6 +78,7 @@ public class CableRenderer implements ICCBlockRenderer, IItemRenderer {
             ResourceLocation location = new ResourceLocation(GTValues.MODID, "blocks/cable/insulation_" + i);
             this.insulationTextures[i] = map.registerSprite(location);
         }
+        modelCache.clear();
     }
 
     @SubscribeEvent
@@ -109,12 +111,6 @@ public class CableRenderer implements ICCBlockRenderer, IItemRenderer {
 
     @Override
     public boolean renderBlock(IBlockAccess world, BlockPos pos, IBlockState state, BufferBuilder buffer) {
-        CCRenderState renderState = CCRenderState.instance();
-        renderState.reset();
-        renderState.bind(buffer);
-        renderState.setBrightness(world, pos);
-        IVertexOperation[] pipeline = {new Translation(pos)};
-
         BlockCable blockCable = (BlockCable) state.getBlock();
         TileEntityCable tileEntityCable = (TileEntityCable) blockCable.getPipeTileEntity(world, pos);
         if (tileEntityCable == null) return false;
@@ -124,7 +120,20 @@ public class CableRenderer implements ICCBlockRenderer, IItemRenderer {
         Material material = tileEntityCable.getPipeMaterial();
         if (insulation != null && material != null) {
             BlockRenderLayer renderLayer = MinecraftForgeClient.getRenderLayer();
+            boolean renderedFromCache = false;
             if (renderLayer == BlockRenderLayer.CUTOUT) {
+                //uninsulated wires don't use painting color, so all of them share models
+                int insulationColor = insulation.insulationLevel == -1 ? 0 : paintingColor;
+                long modelKey = PipeModelCache.getModelKey(insulation.ordinal(), connectedSidesMask, material.materialRGB, insulationColor);
+                renderedFromCache = modelCache.renderModel(world, pos, buffer, modelKey, captureState ->
+                    renderCableBlock(material, insulation, paintingColor, captureState, new IVertexOperation[0], connectedSidesMask));
+            }
+            CCRenderState renderState = CCRenderState.instance();
+            renderState.reset();
+            renderState.bind(buffer);
+            renderState.setBrightness(world, pos);
+            if (renderLayer == BlockRenderLayer.CUTOUT && !renderedFromCache) {
+                IVertexOperation[] pipeline = {new Translation(pos)};
                 renderCableBlock(material, insulation, paintingColor, renderState, pipeline, connectedSidesMask);
             }
             ICoverable coverable = tileEntityCable.getCoverableImplementation();
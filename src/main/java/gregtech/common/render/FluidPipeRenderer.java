@@ -61,6 +61,7 @@ public class FluidPipeRenderer implements ICCBlockRenderer, IItemRenderer {
     public static EnumBlockRenderType BLOCK_RENDER_TYPE;
     private Map<FluidPipeType, PipeTextureInfo> pipeTextures = new HashMap<>();
     private Map<FluidPipeType, PipeModelInfo> pipeModels = new HashMap<>();
+    private final PipeModelCache modelCache = new PipeModelCache();
 
     private static class PipeTextureInfo {
         public final TextureAtlasSprite inTexture;
@@ -110,6 +111,7 @@ public class FluidPipeRenderer implements ICCBlockRenderer, IItemRenderer {
             CCModel[] fullBlockVariants = ShapeModelGenerator.generateFullBlockVariants(fullBlockModel);
             this.pipeModels.put(fluidPipeType, new PipeModelInfo(rotatedVariants, fullBlockVariants));
         }
+        modelCache.clear();
     }
 
     @SubscribeEvent
@@ -139,11 +141,6 @@ public class FluidPipeRenderer implements ICCBlockRenderer, IItemRenderer {
 
     @Override
     public boolean renderBlock(IBlockAccess world, BlockPos pos, IBlockState state, BufferBuilder buffer) {
-        CCRenderState renderState = CCRenderState.instance();
-        renderState.reset();
-        renderState.bind(buffer);
-        renderState.setBrightness(world, pos);
-
         BlockFluidPipe blockPipe = ((BlockFluidPipe) state.getBlock());
         TileEntityFluidPipe tileEntityPipe = (TileEntityFluidPipe) blockPipe.getPipeTileEntity(world, pos);
 
@@ -157,9 +154,21 @@ public class FluidPipeRenderer implements ICCBlockRenderer, IItemRenderer {
 
         if (fluidPipeType != null && pipeMaterial != null) {
             BlockRenderLayer renderLayer = MinecraftForgeClient.getRenderLayer();
+            int connectedSidesMask = blockPipe.getActualConnections(tileEntityPipe, world);
+            boolean renderedFromCache = false;
 
             if (renderLayer == BlockRenderLayer.CUTOUT) {
-                int connectedSidesMask = blockPipe.getActualConnections(tileEntityPipe, world);
+                long modelKey = PipeModelCache.getModelKey(fluidPipeType.ordinal(), connectedSidesMask, getPipeColor(pipeMaterial, paintingColor), 0);
+                renderedFromCache = modelCache.renderModel(world, pos, buffer, modelKey, captureState ->
+                    renderPipeBlock(pipeMaterial, fluidPipeType, paintingColor, captureState, new IVertexOperation[0], connectedSidesMask));
+            }
+
+            CCRenderState renderState = CCRenderState.instance();
+            renderState.reset();
+            renderState.bind(buffer);
+            renderState.setBrightness(world, pos);
+
+            if (renderLayer == BlockRenderLayer.CUTOUT && !renderedFromCache) {
                 IVertexOperation[] pipeline = new IVertexOperation[] {new Translation(pos)};
                 renderPipeBlock(pipeMaterial, fluidPipeType, paintingColor, renderState, pipeline, connectedSidesMask);
             }
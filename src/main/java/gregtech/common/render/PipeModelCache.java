@@ -0,0 +1,128 @@
+package gregtech.common.render;
+
+import codechicken.lib.render.CCRenderState;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.renderer.vertex.VertexFormat;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Client side cache of pipe geometry baked in block-local space
+ * <p>
+ * Geometry is captured once from CCL pipeline into plain arrays and later written directly
+ * into chunk buffer, translated to block position and lit with it's brightness, so chunk rebuilds
+ * don't have to build vertex pipelines for every pipe. Models are keyed by everything their
+ * geometry depends on, see {@link #getModelKey(int, int, int, int)}. Cache has to be cleared
+ * when textures are stitched again
+ */
+public class PipeModelCache {
+
+    private static final int MAX_CACHED_MODELS = 2048;
+    private static final VertexFormat FORMAT = DefaultVertexFormats.BLOCK;
+
+    private final Map<Long, CachedModel> cachedModels = new ConcurrentHashMap<>();
+
+    /**
+     * @param typeIndex      index of pipe type, at most 15
+     * @param connectMask    connection mask used for rendering, only lowest 12 bits are used
+     * @param primaryColor   RGB color of the model
+     * @param secondaryColor RGB color of second part of the model, like cable insulation, or 0
+     */
+    public static long getModelKey(int typeIndex, int connectMask, int primaryColor, int secondaryColor) {
+        return (long) typeIndex << 60 | (long) (connectMask & 0xFFF) << 48 |
+            (long) (primaryColor & 0xFFFFFF) << 24 | (secondaryColor & 0xFFFFFF);
+    }
+
+    public void clear() {
+        cachedModels.clear();
+    }
+
+    /**
+     * Renders model with given key into given buffer, baking it with given renderer first if it isn't cached yet.
+     * Model renderer receives render state bound to capture buffer and has to render model at block origin.
+     * Resets {@link CCRenderState} of current thread
+     *
+     * @return false if given buffer doesn't use block vertex format, so model has to be rendered through CCL pipeline
+     */
+    public boolean renderModel(IBlockAccess world, BlockPos pos, BufferBuilder buffer, long modelKey, Consumer<CCRenderState> modelRenderer) {
+        if (buffer.getVertexFormat() != FORMAT) {
+            return false;
+        }
+        CachedModel cachedModel = cachedModels.get(modelKey);
+        if (cachedModel == null) {
+            cachedModel = bakeModel(modelRenderer);
+            if (cachedModels.size() >= MAX_CACHED_MODELS) {
+                cachedModels.clear();
+            }
+            cachedModels.put(modelKey, cachedModel);
+        }
+        int brightness = world.getBlockState(pos).getPackedLightmapCoords(world, pos);
+        cachedModel.render(buffer, pos.getX(), pos.getY(), pos.getZ(), brightness);
+        return true;
+    }
+
+    private static CachedModel bakeModel(Consumer<CCRenderState> modelRenderer) {
+        BufferBuilder captureBuffer = new BufferBuilder(4096);
+        captureBuffer.begin(GL11.GL_QUADS, FORMAT);
+        CCRenderState renderState = CCRenderState.instance();
+        renderState.reset();
+        renderState.bind(captureBuffer);
+        modelRenderer.accept(renderState);
+        captureBuffer.finishDrawing();
+        renderState.reset();
+
+        ByteBuffer byteBuffer = captureBuffer.getByteBuffer();
+        int vertexCount = captureBuffer.getVertexCount();
+        int vertexSize = FORMAT.getSize();
+        int positionOffset = FORMAT.getOffset(0);
+        int colorOffset = FORMAT.getOffset(1);
+        int uvOffset = FORMAT.getOffset(2);
+        float[] vertexData = new float[vertexCount * 5];
+        int[] vertexColors = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            int vertexIndex = i * vertexSize;
+            vertexData[i * 5] = byteBuffer.getFloat(vertexIndex + positionOffset);
+            vertexData[i * 5 + 1] = byteBuffer.getFloat(vertexIndex + positionOffset + 4);
+            vertexData[i * 5 + 2] = byteBuffer.getFloat(vertexIndex + positionOffset + 8);
+            vertexData[i * 5 + 3] = byteBuffer.getFloat(vertexIndex + uvOffset);
+            vertexData[i * 5 + 4] = byteBuffer.getFloat(vertexIndex + uvOffset + 4);
+            //color bytes are stored as r, g, b, a regardless of buffer byte order
+            vertexColors[i] = (byteBuffer.get(vertexIndex + colorOffset) & 0xFF) << 24 |
+                (byteBuffer.get(vertexIndex + colorOffset + 1) & 0xFF) << 16 |
+                (byteBuffer.get(vertexIndex + colorOffset + 2) & 0xFF) << 8 |
+                (byteBuffer.get(vertexIndex + colorOffset + 3) & 0xFF);
+        }
+        return new CachedModel(vertexData, vertexColors);
+    }
+
+    private static class CachedModel {
+
+        private final float[] vertexData;
+        private final int[] vertexColors;
+
+        private CachedModel(float[] vertexData, int[] vertexColors) {
+            this.vertexData = vertexData;
+            this.vertexColors = vertexColors;
+        }
+
+        private void render(BufferBuilder buffer, double x, double y, double z, int brightness) {
+            int skyLight = brightness >> 16 & 0xFFFF;
+            int blockLight = brightness & 0xFFFF;
+            for (int i = 0; i < vertexColors.length; i++) {
+                int color = vertexColors[i];
+                buffer.pos(x + vertexData[i * 5], y + vertexData[i * 5 + 1], z + vertexData[i * 5 + 2])
+                    .color(color >>> 24, color >> 16 & 0xFF, color >> 8 & 0xFF, color & 0xFF)
+                    .tex(vertexData[i * 5 + 3], vertexData[i * 5 + 4])
+                    .lightmap(skyLight, blockLight)
+                    .endVertex();
+            }
+        }
+    }
+}
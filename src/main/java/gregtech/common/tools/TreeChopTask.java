@@ -25,6 +25,8 @@ public class TreeChopTask implements Task {
 
     private static final int MAX_BLOCKS_SEARCH_PER_TICK = 1024;
     private static final int MAX_BLOCKS_TO_SEARCH = 8192;
+    //scheduler used to run tasks in both tick phases, so task does two steps per run to keep it's speed
+    private static final int STEPS_PER_RUN = 2;
     private final Stack<Pair<MultiFacing, Boolean>> moveStack = new Stack<>();
     private boolean isLastBlockLeaves = false;
     private final MutableBlockPos currentPos = new MutableBlockPos();
@@ -49,6 +51,15 @@ public class TreeChopTask implements Task {
 
     @Override
     public boolean run() {
+        for (int i = 0; i < STEPS_PER_RUN; i++) {
+            if (!runStep()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean runStep() {
         ItemStack itemInMainHand = this.player.getHeldItemMainhand();
 
         boolean isPlayerNear = player.world == world && currentPos.distanceSq(player.posX, currentPos.getY(), player.posZ) <= 1024;